@@ -0,0 +1,30 @@
+package io.github.yeluod.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口
+ * 支持全部 JMH 命令行参数, 并默认开启 GC/内存分配分析
+ * <pre>
+ * mvn install
+ * cd benchmark && mvn package
+ * java -jar target/benchmarks.jar StBenchmark
+ * </pre>
+ *
+ * @author W.d
+ * @since 2026/10/16 16:00
+ **/
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.yeluod.benchmark;
+
+import io.github.yeluod.util.function.LambdaMeta;
+import io.github.yeluod.util.function.SerFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LambdaMeta} 未缓存与缓存后的解析开销, 以及通过方法句柄取值与直接调用的对比
+ *
+ * @author W.d
+ * @since 2026/10/16 23:20
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LambdaMetaBenchmark {
+
+    private final SerFunction<User, String> getter = User::getName;
+
+    private final User user = new User("W.d");
+
+    @Benchmark
+    public LambdaMeta cold() {
+        return LambdaMeta.resolve(getter);
+    }
+
+    @Benchmark
+    public LambdaMeta warm() {
+        return LambdaMeta.of(getter);
+    }
+
+    @Benchmark
+    public String propertyName() {
+        return LambdaMeta.of(getter).getPropertyName();
+    }
+
+    @Benchmark
+    public Object get() {
+        return LambdaMeta.of(getter).get(user);
+    }
+
+    @Benchmark
+    public String getBaseline() {
+        return getter.apply(user);
+    }
+
+    public static class User {
+
+        private final String name;
+
+        public User(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
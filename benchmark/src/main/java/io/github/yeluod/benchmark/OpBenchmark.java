@@ -0,0 +1,137 @@
+package io.github.yeluod.benchmark;
+
+import io.github.yeluod.util.Op;
+import io.github.yeluod.util.OpInt;
+import io.github.yeluod.util.OpLong;
+import io.github.yeluod.util.function.SerFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Op} 与 {@link Optional} 的对比, 以及 {@link OpInt}/{@link OpLong} 与装箱的 {@link Op} 的对比
+ *
+ * @author W.d
+ * @since 2026/10/16 16:00
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpBenchmark {
+
+    private String value = "42";
+
+    private String blank = " ";
+
+    private String invalid = "x";
+
+    /**
+     * 超出 {@link Integer} 缓存范围, 装箱时会分配对象
+     */
+    private int price = 1_000_000;
+
+    private long amount = 1_000_000L;
+
+    /**
+     * 抛出受检异常的校验, 失败时由 {@link SerFunction} 包装为 KitException
+     */
+    private SerFunction<String, Integer> validate = s -> {
+        if (s.isEmpty() || !Character.isDigit(s.charAt(0))) {
+            throw new java.text.ParseException(s, 0);
+        }
+        return s.length();
+    };
+
+    @Benchmark
+    public String of() {
+        return Op.of(value).get();
+    }
+
+    @Benchmark
+    public String ofBaseline() {
+        return Optional.of(value).get();
+    }
+
+    @Benchmark
+    public String ofNullable() {
+        return Op.ofNullable(blank).orElse(value);
+    }
+
+    @Benchmark
+    public String ofNullableBaseline() {
+        return Optional.ofNullable(blank).filter(s -> !s.isBlank()).orElse(value);
+    }
+
+    @Benchmark
+    public Integer map() {
+        return Op.ofNullable(value).map(Integer::parseInt).map(i -> i + 1).orElse(0);
+    }
+
+    @Benchmark
+    public Integer mapBaseline() {
+        return Optional.ofNullable(value).map(Integer::parseInt).map(i -> i + 1).orElse(0);
+    }
+
+    @Benchmark
+    public Integer ofTrySuccess() {
+        return Op.ofTry(() -> Integer.parseInt(value)).orElse(0);
+    }
+
+    @Benchmark
+    public Integer ofTryFailure() {
+        return Op.ofTry(() -> Integer.parseInt(invalid)).failOrElse(0);
+    }
+
+    @Benchmark
+    public Integer ofTryFailureBaseline() {
+        try {
+            return Integer.parseInt(invalid);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public int mapBoxed() {
+        return Op.ofNullable(price).map(i -> i * 3).filter(i -> i > 0).orElse(0);
+    }
+
+    @Benchmark
+    public int mapInt() {
+        return OpInt.of(price).map(i -> i * 3).filter(i -> i > 0).orElse(0);
+    }
+
+    @Benchmark
+    public long mapLongBoxed() {
+        return Op.ofNullable(amount).map(l -> l * 3).filter(l -> l > 0).orElse(0L);
+    }
+
+    @Benchmark
+    public long mapLong() {
+        return OpLong.of(amount).map(l -> l * 3).filter(l -> l > 0).orElse(0L);
+    }
+
+    @Benchmark
+    public int ofTryIntSuccess() {
+        return OpInt.ofTry(() -> Integer.parseInt(value)).orElse(0);
+    }
+
+    @Benchmark
+    public int ofTryIntFailure() {
+        return OpInt.ofTry(() -> Integer.parseInt(invalid)).failOrElse(0);
+    }
+
+    @Benchmark
+    public boolean ofTryWrappedFailure() {
+        return Op.ofTry(() -> validate.apply(invalid)).isFail();
+    }
+
+    @Benchmark
+    public boolean ofTryWrappedFailureStackless() {
+        return Op.ofTry(() -> validate.apply(invalid), true).isFail();
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.yeluod.benchmark;
+
+import io.github.yeluod.util.function.SerFunction;
+import io.github.yeluod.util.function.SerPredicate;
+import io.github.yeluod.util.function.SerSupplier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Ser* 函数式接口与 JDK 函数式接口的调用开销对比
+ *
+ * @author W.d
+ * @since 2026/10/16 16:00
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerBenchmark {
+
+    private String value = "42";
+
+    private final SerFunction<String, Integer> serFunction = String::length;
+
+    private final Function<String, Integer> function = String::length;
+
+    private final SerPredicate<String> serPredicate = String::isEmpty;
+
+    private final Predicate<String> predicate = String::isEmpty;
+
+    private final SerSupplier<String> serSupplier = () -> value;
+
+    private final Supplier<String> supplier = () -> value;
+
+    @Benchmark
+    public Integer serFunction() {
+        return serFunction.apply(value);
+    }
+
+    @Benchmark
+    public Integer function() {
+        return function.apply(value);
+    }
+
+    @Benchmark
+    public Integer serFunctionAndThen() {
+        return serFunction.andThen(i -> i + 1).apply(value);
+    }
+
+    @Benchmark
+    public Integer functionAndThen() {
+        return function.andThen(i -> i + 1).apply(value);
+    }
+
+    @Benchmark
+    public boolean serPredicate() {
+        return serPredicate.test(value);
+    }
+
+    @Benchmark
+    public boolean predicate() {
+        return predicate.test(value);
+    }
+
+    @Benchmark
+    public String serSupplier() {
+        return serSupplier.get();
+    }
+
+    @Benchmark
+    public String supplier() {
+        return supplier.get();
+    }
+}
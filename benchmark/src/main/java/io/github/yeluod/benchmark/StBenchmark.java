@@ -0,0 +1,150 @@
+package io.github.yeluod.benchmark;
+
+import io.github.yeluod.util.St;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link St} 与原生 {@link Stream} 的对比
+ *
+ * @author W.d
+ * @since 2026/10/16 16:00
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private List<Integer> list;
+
+    private List<String> values;
+
+    private String csv;
+
+    @Setup
+    public void setup() {
+        list = IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+        values = list.stream().map(String::valueOf).collect(Collectors.toCollection(ArrayList::new));
+        csv = String.join(",", values);
+    }
+
+    private St<Integer> st() {
+        return St.of(list, parallel);
+    }
+
+    private Stream<Integer> stream() {
+        return parallel ? list.parallelStream() : list.stream();
+    }
+
+    @Benchmark
+    public List<Integer> mapIdx() {
+        return st().mapIdx(Integer::sum).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapIdxBaseline() {
+        IntStream indexes = IntStream.range(0, size);
+        return (parallel ? indexes.parallel() : indexes).mapToObj(i -> list.get(i) + i).toList();
+    }
+
+    @Benchmark
+    public List<Integer> filterIdx() {
+        return st().filterIdx((e, i) -> (i & 1) == 0).toList();
+    }
+
+    @Benchmark
+    public Optional<Integer> findLast() {
+        return st().findLast(e -> e < size / 2);
+    }
+
+    @Benchmark
+    public Optional<Integer> findLastBaseline() {
+        return stream().filter(e -> e < size / 2).reduce((l, r) -> r);
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return st().reverse().toList();
+    }
+
+    @Benchmark
+    public List<Integer> reverseBaseline() {
+        List<Integer> copy = stream().collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> topK() {
+        return st().topK(10, Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public List<Integer> topKBaseline() {
+        return stream().sorted(Comparator.reverseOrder()).limit(10).toList();
+    }
+
+    @Benchmark
+    public Map<Integer, String> toZip() {
+        return st().toZip(values);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> group() {
+        return st().group(e -> e & 15);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBaseline() {
+        return stream().collect(Collectors.groupingBy(e -> e & 15));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap() {
+        return st().toMap(Function.identity());
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapBaseline() {
+        return stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+    }
+
+    @Benchmark
+    public String join() {
+        return St.of(values, parallel).join(",");
+    }
+
+    @Benchmark
+    public String joinBaseline() {
+        Stream<String> stream = parallel ? values.parallelStream() : values.stream();
+        return stream.collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        St.split(csv, ",").forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void splitBaseline(Blackhole blackhole) {
+        for (String s : csv.split(",")) {
+            blackhole.consume(s);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.yeluod.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 布隆过滤器
+ * 占用的内存在创建时根据预期元素个数和误判率确定, 之后不再增长
+ * 只会把不存在的元素误判为存在, 不会把存在的元素误判为不存在
+ * 并发模式下通过原子的按位或设置比特位, 可以被多个线程同时写入
+ * 字符串、数值、枚举、UUID 以及由它们组成的 List 按 64 位哈希计算比特位, 其他类型只能依赖 32 位的 hashCode,
+ * hashCode 相同的不同元素总会被判为存在
+ *
+ * @author W.d
+ * @since 2026/10/16 20:10
+ **/
+final class BloomFilter {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] bits;
+
+    private final long bitSize;
+
+    private final int hashes;
+
+    private final boolean concurrent;
+
+    /**
+     * @param expectedInsertions 预期元素个数
+     * @param fpp                误判率, 取值范围 (0, 1)
+     * @param concurrent         是否可能被多个线程同时写入
+     */
+    BloomFilter(long expectedInsertions, double fpp, boolean concurrent) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (!(fpp > 0.0 && fpp < 1.0)) {
+            throw new IllegalArgumentException("fpp must be in (0, 1): " + fpp);
+        }
+        // m = -n * ln(p) / (ln2)^2, k = m / n * ln2
+        long m = Math.max(64L, (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        this.bits = new long[(int) Math.min((m + 63) >>> 6, Integer.MAX_VALUE - 8)];
+        this.bitSize = (long) bits.length << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param key 元素
+     * @return 元素可能不存在(有比特位被本次添加设置)时为 true, 一定已经存在时为 false
+     */
+    boolean put(Object key) {
+        long hash = hash64(key);
+        long hash1 = fmix64(hash);
+        long hash2 = fmix64(hash + 0x9e3779b97f4a7c15L) | 1L;
+        boolean changed = false;
+        long combined = hash1;
+        for (int i = 0; i < hashes; i++, combined += hash2) {
+            long index = (combined & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if (concurrent) {
+                changed |= ((long) BITS.getAndBitwiseOr(bits, word, mask) & mask) == 0L;
+            } else if ((bits[word] & mask) == 0L) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 计算元素的 64 位哈希, 不会像 hashCode 一样让 "Aa" 和 "BB"、0L 和 0x100000001L 这样的元素冲突
+     *
+     * @param key 元素
+     * @return 64 位哈希
+     */
+    static long hash64(Object key) {
+        if (key instanceof CharSequence sequence) {
+            // FNV-1a
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0, length = sequence.length(); i < length; i++) {
+                hash = (hash ^ sequence.charAt(i)) * 0x100000001b3L;
+            }
+            return hash;
+        }
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        }
+        if (key instanceof Double || key instanceof Float) {
+            return Double.doubleToLongBits(((Number) key).doubleValue());
+        }
+        if (key instanceof Character character) {
+            return character;
+        }
+        if (key instanceof Boolean bool) {
+            return bool ? 1L : 0L;
+        }
+        if (key instanceof Enum<?> constant) {
+            return hash64(constant.getDeclaringClass().getName()) * 31L + constant.ordinal();
+        }
+        if (key instanceof UUID uuid) {
+            return uuid.getMostSignificantBits() ^ fmix64(uuid.getLeastSignificantBits());
+        }
+        if (key instanceof List<?> list) {
+            long hash = 1L;
+            for (Object element : list) {
+                hash = hash * 0x9e3779b97f4a7c15L + fmix64(hash64(element));
+            }
+            return hash;
+        }
+        return Objects.hashCode(key);
+    }
+
+    /**
+     * MurmurHash3 的 fmix64
+     */
+    private static long fmix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+
+/**
+ * 有界堆
+ * 最多保留 k 个按比较器最大的元素, 堆顶为保留的元素中最小的一个, 新元素大于堆顶时替换堆顶
+ * 每个元素的代价为 O(log k), 占用的内存为 O(k)
+ * 并行流中每个线程持有自己的堆, 最后合并
+ *
+ * @author W.d
+ * @since 2026/10/16 20:40
+ **/
+final class BoundedHeap<T> {
+
+    private final int k;
+
+    private final Comparator<? super T> comparator;
+
+    private Object[] heap;
+
+    private int size;
+
+    BoundedHeap(int k, Comparator<? super T> comparator) {
+        this.k = k;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.heap = new Object[Math.min(k, 16)];
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param t 元素
+     */
+    @SuppressWarnings("unchecked")
+    void add(T t) {
+        if (size < k) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, (int) Math.min((long) size << 1, k));
+            }
+            siftUp(size++, t);
+        } else if (k > 0 && comparator.compare(t, (T) heap[0]) > 0) {
+            siftDown(0, t);
+        }
+    }
+
+    /**
+     * 合并另一个堆
+     *
+     * @param other 另一个堆
+     * @return 合并后的堆
+     */
+    @SuppressWarnings("unchecked")
+    BoundedHeap<T> addAll(BoundedHeap<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            add((T) other.heap[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 返回保留的元素, 按比较器从大到小排列
+     *
+     * @return {@link List}
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        T[] elements = (T[]) Arrays.copyOf(heap, size);
+        Arrays.sort(elements, comparator.reversed());
+        return Arrays.asList(elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, T t) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            T p = (T) heap[parent];
+            if (comparator.compare(t, p) >= 0) {
+                break;
+            }
+            heap[index] = p;
+            index = parent;
+        }
+        heap[index] = t;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, T t) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            T c = (T) heap[child];
+            int right = child + 1;
+            if (right < size && comparator.compare(c, (T) heap[right]) > 0) {
+                c = (T) heap[child = right];
+            }
+            if (comparator.compare(t, c) <= 0) {
+                break;
+            }
+            heap[index] = c;
+            index = child;
+        }
+        heap[index] = t;
+    }
+}
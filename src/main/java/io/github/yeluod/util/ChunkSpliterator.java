@@ -0,0 +1,103 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 分块拆分器
+ * 按顺序将元素每 size 个分为一块, 最后一块可能不足 size 个
+ * 对于 SUBSIZED 的数据源, 拆分时从后半部分借用少量元素补齐前半部分的最后一块, 使拆分位置始终落在块的边界上,
+ * 并行处理时各部分的块数保持均衡, 且不需要预先收集全部元素
+ *
+ * @author W.d
+ * @since 2026/10/16 17:50
+ **/
+final class ChunkSpliterator<T> implements Spliterator<List<T>> {
+
+    /**
+     * 每一块的初始容量上限, 块很大时按需扩容, 不会按块大小一次分配
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 10;
+
+    private final Spliterator<T> source;
+
+    private final int size;
+
+    /**
+     * 从后半部分借用的元素, 逻辑上位于 source 之后, 个数小于 size
+     */
+    private List<T> carry;
+
+    ChunkSpliterator(Spliterator<T> source, int size) {
+        this(source, size, null);
+    }
+
+    private ChunkSpliterator(Spliterator<T> source, int size, List<T> carry) {
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.carry = carry;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        Objects.requireNonNull(action);
+        List<T> chunk = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        fill(source, chunk, size);
+        if (chunk.size() < size && Objects.nonNull(carry)) {
+            chunk.addAll(carry);
+            carry = null;
+        }
+        if (chunk.isEmpty()) {
+            return false;
+        }
+        action.accept(Collections.unmodifiableList(chunk));
+        return true;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return null;
+        }
+        Spliterator<T> prefix = source.trySplit();
+        if (Objects.isNull(prefix)) {
+            return null;
+        }
+        int remainder = (int) (prefix.getExactSizeIfKnown() % size);
+        List<T> borrowed = null;
+        if (remainder != 0) {
+            // 借用后半部分开头的元素补齐前半部分的最后一块, source 不足时继续从逻辑上位于其后的 carry 借用
+            borrowed = new ArrayList<>(size - remainder);
+            fill(source, borrowed, size - remainder);
+            if (borrowed.size() < size - remainder && Objects.nonNull(carry)) {
+                int taken = Math.min(size - remainder - borrowed.size(), carry.size());
+                borrowed.addAll(carry.subList(0, taken));
+                carry = taken == carry.size() ? null : new ArrayList<>(carry.subList(taken, carry.size()));
+            }
+        }
+        return new ChunkSpliterator<>(prefix, size, borrowed);
+    }
+
+    @Override
+    public long estimateSize() {
+        long elements = source.estimateSize();
+        if (elements == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        elements += Objects.isNull(carry) ? 0 : carry.size();
+        return (elements + size - 1) / size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL
+               | (source.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    private static <T> void fill(Spliterator<T> source, List<T> target, int limit) {
+        boolean advanced = true;
+        while (advanced && target.size() < limit) {
+            advanced = source.tryAdvance(target::add);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.yeluod.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 分块缓冲区
+ * 元素按容量翻倍的数组块存放, 扩容时不需要复制已有元素, 并且支持按下标随机访问
+ *
+ * @author W.d
+ * @since 2026/10/16 11:05
+ **/
+final class ChunkedBuffer<T> implements Consumer<T> {
+
+    /**
+     * 第一个数组块的容量, 第 k 个数组块的容量为 FIRST_CHUNK_SIZE << k
+     */
+    private static final int FIRST_CHUNK_SIZE = 16;
+
+    private static final int FIRST_CHUNK_SHIFT = Integer.numberOfTrailingZeros(FIRST_CHUNK_SIZE);
+
+    private Object[][] chunks = new Object[4][];
+
+    /**
+     * 已使用的数组块个数
+     */
+    private int chunkCount;
+
+    /**
+     * 当前数组块中已存放的元素个数
+     */
+    private int chunkUsed;
+
+    private int size;
+
+    @Override
+    public void accept(T t) {
+        add(t);
+    }
+
+    /**
+     * 追加元素
+     *
+     * @param t 元素
+     */
+    void add(T t) {
+        if (chunkCount == 0 || chunkUsed == chunks[chunkCount - 1].length) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length << 1);
+            }
+            chunks[chunkCount] = new Object[FIRST_CHUNK_SIZE << chunkCount];
+            chunkCount++;
+            chunkUsed = 0;
+        }
+        chunks[chunkCount - 1][chunkUsed++] = t;
+        size++;
+    }
+
+    /**
+     * 追加另一个缓冲区的全部元素
+     *
+     * @param other 另一个缓冲区
+     * @return 当前缓冲区
+     */
+    ChunkedBuffer<T> addAll(ChunkedBuffer<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * 按下标获取元素
+     *
+     * @param index 下标
+     * @return 元素
+     */
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        int chunk = 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+        int offset = index - (((1 << chunk) - 1) << FIRST_CHUNK_SHIFT);
+        return (T) chunks[chunk][offset];
+    }
+
+    int size() {
+        return size;
+    }
+}
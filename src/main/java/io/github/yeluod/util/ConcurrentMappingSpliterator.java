@@ -0,0 +1,233 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 并发映射拆分器
+ * 在执行器上并发执行映射操作, 同时执行的任务不超过 maxConcurrency 个, 消费一个结果后再提交下一个元素
+ * 有序时按数据源的顺序输出结果, 无序时按完成的顺序输出结果
+ * 映射操作在执行器中并发执行, 拆分器本身不会被拆分
+ * {@link #cancel()} 可能在关闭流的任意线程上调用, 因此 {@link #pending} 的读写都持有它自身的锁, 阻塞等待结果时不持有锁
+ *
+ * @author W.d
+ * @since 2026/10/16 19:10
+ **/
+final class ConcurrentMappingSpliterator<T, R> implements Spliterator<R> {
+
+    private final Spliterator<T> source;
+
+    private final Function<? super T, ? extends R> mapper;
+
+    private final int maxConcurrency;
+
+    private final Executor executor;
+
+    private final boolean ordered;
+
+    /**
+     * 已提交且尚未输出的任务, 按提交顺序排列, 读写时需要持有它自身的锁
+     */
+    private final Deque<Task> pending;
+
+    /**
+     * 是否已取消, 取消后不再提交新的元素, 正在等待的结果也不再输出
+     */
+    private volatile boolean closed;
+
+    /**
+     * 无序时已完成(包括被取消)的任务, 按完成顺序排列
+     */
+    private final BlockingQueue<Task> completed;
+
+    private final Consumer<T> submit = this::submit;
+
+    ConcurrentMappingSpliterator(Spliterator<T> source, Function<? super T, ? extends R> mapper,
+                                 int maxConcurrency, Executor executor, boolean ordered) {
+        this.source = Objects.requireNonNull(source);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.maxConcurrency = maxConcurrency;
+        this.executor = Objects.requireNonNull(executor);
+        this.ordered = ordered;
+        this.pending = new ArrayDeque<>(maxConcurrency);
+        this.completed = ordered ? null : new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * 默认的执行器
+     * 适用于 IO 密集的映射操作, 按需创建守护线程, 空闲的线程会被回收, 并发数由每次调用的 maxConcurrency 限制
+     *
+     * @return {@link Executor}
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        Objects.requireNonNull(action);
+        try {
+            boolean advanced = true;
+            while (advanced && !closed && pendingSize() < maxConcurrency) {
+                advanced = source.tryAdvance(submit);
+            }
+        } catch (RuntimeException | Error e) {
+            cancel();
+            throw e;
+        }
+        Task task = ordered ? head() : take();
+        if (closed || Objects.isNull(task)) {
+            return false;
+        }
+        R result;
+        try {
+            result = await(task);
+        } catch (CancellationException e) {
+            return false;
+        }
+        if (ordered) {
+            synchronized (pending) {
+                pending.remove(task);
+            }
+        }
+        action.accept(result);
+        return true;
+    }
+
+    private void submit(T t) {
+        Task task = new Task(t);
+        synchronized (pending) {
+            if (closed) {
+                return;
+            }
+            pending.addLast(task);
+        }
+        executor.execute(task);
+    }
+
+    private int pendingSize() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 有序时等待最早提交的任务, 输出结果后才从 {@link #pending} 中移除, 以便 {@link #cancel()} 能取消它
+     */
+    private Task head() {
+        synchronized (pending) {
+            return pending.peekFirst();
+        }
+    }
+
+    /**
+     * 无序时等待最先完成的任务, 被取消的任务同样会进入完成队列, 因此取消后不会一直阻塞
+     */
+    private Task take() {
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+        }
+        try {
+            Task task = completed.take();
+            synchronized (pending) {
+                pending.remove(task);
+            }
+            return task;
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new KitException(e);
+        }
+    }
+
+    private R await(Task task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new KitException(e);
+        } catch (ExecutionException e) {
+            cancel();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new KitException(cause);
+        }
+    }
+
+    /**
+     * 取消所有尚未输出的任务, 可以在任意线程上调用
+     */
+    void cancel() {
+        closed = true;
+        synchronized (pending) {
+            Task task;
+            while (Objects.nonNull(task = pending.pollFirst())) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : size + pendingSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return (ordered ? source.characteristics() & Spliterator.ORDERED : 0)
+               | (source.characteristics() & Spliterator.SIZED);
+    }
+
+    /**
+     * 映射任务, 无序时完成后进入完成队列
+     */
+    private final class Task extends FutureTask<R> {
+
+        private Task(T t) {
+            super(() -> mapper.apply(t));
+        }
+
+        @Override
+        protected void done() {
+            if (!ordered) {
+                completed.add(this);
+            }
+        }
+    }
+
+    /**
+     * 默认执行器的延迟初始化
+     */
+    private static final class DefaultExecutor {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private static final Executor INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "St-mapConcurrent-" + SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.yeluod.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 去重拆分器
+ * 只保留首次出现的元素, 是否首次出现由非线程安全的 seen 判断(HashSet、开放寻址集合、布隆过滤器等)
+ * 因此不会被拆分, 即使之后转换为并行流, seen 也只会被一个线程访问
+ *
+ * @author W.d
+ * @since 2026/10/16 20:10
+ **/
+final class DistinctSpliterator<T> implements Spliterator<T> {
+
+    private final Spliterator<T> source;
+
+    /**
+     * 记录元素, 元素首次出现时返回 true
+     */
+    private final Predicate<? super T> seen;
+
+    private T current;
+
+    private boolean first;
+
+    private final Consumer<T> holder = this::hold;
+
+    DistinctSpliterator(Spliterator<T> source, Predicate<? super T> seen) {
+        this.source = Objects.requireNonNull(source);
+        this.seen = Objects.requireNonNull(seen);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        while (source.tryAdvance(holder)) {
+            T t = current;
+            current = null;
+            if (first) {
+                action.accept(t);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void hold(T t) {
+        current = t;
+        first = seen.test(t);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        source.forEachRemaining(t -> {
+            if (seen.test(t)) {
+                action.accept(t);
+            }
+        });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+}
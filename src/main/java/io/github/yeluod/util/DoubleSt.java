@@ -0,0 +1,938 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * DoubleSt
+ * double 类型的 {@link St}, 所有操作都直接作用在 double 上, 不会装箱
+ *
+ * @author W.d
+ * @since 2026/10/16 15:10
+ **/
+@SuppressWarnings("unused")
+public class DoubleSt implements DoubleStream {
+
+    /**
+     * 代表不存在的下标
+     */
+    private static final int NOT_FOUND_INDEX = -1;
+
+    protected DoubleStream stream;
+
+    /**
+     * 数据源数组, 仅当流直接由数组创建且未经过中间操作时存在, 否则为 null
+     */
+    private final double[] source;
+
+    /**
+     * 并行流执行终端操作的线程池, 由 {@link St#parallel(ForkJoinPool)} 沿用而来, 为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * {@link #pool} 是否由 {@link St#parallel(int)} 为当前流水线创建, 是则在终端操作结束时关闭
+     */
+    private boolean ownsPool;
+
+    public DoubleSt(DoubleStream stream) {
+        this(stream, null);
+    }
+
+    private DoubleSt(DoubleStream stream, double[] source) {
+        this.stream = stream;
+        this.source = source;
+    }
+
+    /**
+     * 返回空的串行流
+     *
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt empty() {
+        return new DoubleSt(DoubleStream.empty());
+    }
+
+    /**
+     * 返回包含单个元素的串行流
+     *
+     * @param t 单个元素
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt of(double t) {
+        return of(new double[]{t});
+    }
+
+    /**
+     * 返回包含指定元素的串行流, 不会复制数组
+     *
+     * @param values 元素数组
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt of(double... values) {
+        if (Objects.isNull(values) || values.length == 0) {
+            return empty();
+        }
+        return new DoubleSt(Arrays.stream(values), values);
+    }
+
+    /**
+     * 通过传入的{@link DoubleStream}创建流
+     *
+     * @param stream {@link DoubleStream}
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt of(DoubleStream stream) {
+        return new DoubleSt(Objects.requireNonNull(stream));
+    }
+
+    /**
+     * 返回无限有序流
+     *
+     * @param seed 初始值
+     * @param f    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt iterate(double seed, DoubleUnaryOperator f) {
+        return new DoubleSt(DoubleStream.iterate(seed, f));
+    }
+
+    /**
+     * 返回有序流, 直到条件不满足时结束
+     *
+     * @param seed    初始值
+     * @param hasNext 条件值
+     * @param next    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt iterate(double seed, DoublePredicate hasNext, DoubleUnaryOperator next) {
+        return new DoubleSt(DoubleStream.iterate(seed, hasNext, next));
+    }
+
+    /**
+     * 返回无限串行无序流, 其中每一个元素都由给定的{@link DoubleSupplier}生成
+     *
+     * @param s 用来生成元素的 {@link DoubleSupplier}
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt generate(DoubleSupplier s) {
+        return new DoubleSt(DoubleStream.generate(s));
+    }
+
+    /**
+     * 创建一个惰性拼接流，其元素是第一个流的所有元素，然后是第二个流的所有元素
+     *
+     * @param a 第一个流
+     * @param b 第二个流
+     * @return {@link DoubleSt}
+     */
+    public static DoubleSt concat(DoubleStream a, DoubleStream b) {
+        return new DoubleSt(DoubleStream.concat(a, b));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流
+     *
+     * @param predicate 断言
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt filter(DoublePredicate predicate) {
+        return next(stream.filter(predicate));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流，断言带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param predicate 断言
+     * @return {@link DoubleSt}
+     */
+    public DoubleSt filterIdx(IdxPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return idx((e, i, action) -> {
+            if (predicate.test(e, i)) {
+                action.accept(e);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt map(DoubleUnaryOperator mapper) {
+        return next(stream.map(mapper));
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param mapper 指定的函数
+     * @return {@link DoubleSt}
+     */
+    public DoubleSt mapIdx(IdxOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return idx((e, i, action) -> {
+            action.accept(mapper.apply(e, i));
+            return true;
+        }, false);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link St}
+     */
+    @Override
+    public <U> St<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return new St<U>(stream.mapToObj(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link DoubleSt#map(DoubleUnaryOperator)}一样，只不过函数的返回值必须为int类型
+     *
+     * @param mapper 返回值为int类型的函数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt mapToInt(DoubleToIntFunction mapper) {
+        return new IntSt(stream.mapToInt(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link DoubleSt#map(DoubleUnaryOperator)}一样，只不过函数的返回值必须为long类型
+     *
+     * @param mapper 返回值为long类型的函数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt mapToLong(DoubleToLongFunction mapper) {
+        return new LongSt(stream.mapToLong(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
+     *
+     * @param mapper 操作，返回流
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt flatMap(DoubleFunction<? extends DoubleStream> mapper) {
+        return next(stream.flatMap(mapper));
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流，操作带下标
+     *
+     * @param mapper 操作，返回流
+     * @return {@link DoubleSt}
+     */
+    public DoubleSt flatIdx(IdxFunction<? extends DoubleStream> mapper) {
+        Objects.requireNonNull(mapper);
+        boolean parallel = isParallel();
+        FlatIdxSpliterator.OfDouble spliterator = new FlatIdxSpliterator.OfDouble(stream.spliterator(), mapper);
+        return next(StreamSupport.doubleStream(spliterator, parallel).onClose(spliterator::close).onClose(stream::close));
+    }
+
+    /**
+     * 扩散流操作，将原有流元素执行mapper操作，操作带一个方法，调用该方法可增加元素
+     *
+     * @param mapper 操作
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt mapMulti(DoubleMapMultiConsumer mapper) {
+        return next(stream.mapMulti(mapper));
+    }
+
+    /**
+     * 返回一个具有去重特征的流
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt distinct() {
+        return next(stream.distinct());
+    }
+
+    /**
+     * 返回一个元素按自然顺序排序的流
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt sorted() {
+        return next(stream.sorted());
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行后组成的流
+     *
+     * @param action 指定的函数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt peek(DoubleConsumer action) {
+        return next(stream.peek(action));
+    }
+
+    /**
+     * 返回截取后面一些元素的流
+     *
+     * @param maxSize 元素截取后的个数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt limit(long maxSize) {
+        return next(stream.limit(maxSize));
+    }
+
+    /**
+     * 返回丢弃前面n个元素后的剩余元素组成的流
+     *
+     * @param n 需要丢弃的元素个数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt skip(long n) {
+        return next(stream.skip(n));
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEach(DoubleConsumer action) {
+        evaluate(() -> {
+            stream.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素按照顺序执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEachOrdered(DoubleConsumer action) {
+        evaluate(() -> {
+            stream.forEachOrdered(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param action 操作
+     */
+    public void forEachIdx(IdxConsumer action) {
+        Objects.requireNonNull(action);
+        idx((e, i, ignore) -> {
+            action.accept(e, i);
+            return false;
+        }, true).forEach(e -> {
+        });
+    }
+
+    /**
+     * 返回一个包含此流元素的数组
+     *
+     * @return double[]
+     */
+    @Override
+    public double[] toArray() {
+        return evaluate(stream::toArray);
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后的值
+     *
+     * @param identity 初始值
+     * @param op       聚合操作
+     * @return 聚合后的值
+     */
+    @Override
+    public double reduce(double identity, DoubleBinaryOperator op) {
+        return evaluate(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后用 {@link OptionalDouble}包裹的值
+     *
+     * @param op 聚合操作
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble reduce(DoubleBinaryOperator op) {
+        return evaluate(() -> stream.reduce(op));
+    }
+
+    /**
+     * 对元素进行收集，并返回收集后的容器
+     *
+     * @param supplier    提供初始值的函数式接口，一般可以传入构造参数
+     * @param accumulator 具体收集操作
+     * @param combiner    用于并行流时组合多个结果
+     * @return 收集后的容器
+     */
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return evaluate(() -> stream.collect(supplier, accumulator, combiner));
+    }
+
+    /**
+     * 求和
+     *
+     * @return double
+     */
+    @Override
+    public double sum() {
+        return evaluate(stream::sum);
+    }
+
+    /**
+     * 获取最小值
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble min() {
+        return evaluate(stream::min);
+    }
+
+    /**
+     * 获取最大值
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble max() {
+        return evaluate(stream::max);
+    }
+
+    /**
+     * 返回流元素个数
+     *
+     * @return long
+     */
+    @Override
+    public long count() {
+        return evaluate(stream::count);
+    }
+
+    /**
+     * 获取平均值
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble average() {
+        return evaluate(stream::average);
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return {@link DoubleSummaryStatistics}
+     */
+    @Override
+    public DoubleSummaryStatistics summaryStatistics() {
+        return evaluate(stream::summaryStatistics);
+    }
+
+    /**
+     * 判断是否有任何一个元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean anyMatch(DoublePredicate predicate) {
+        return evaluate(() -> stream.anyMatch(predicate));
+    }
+
+    /**
+     * 判断是否所有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean allMatch(DoublePredicate predicate) {
+        return evaluate(() -> stream.allMatch(predicate));
+    }
+
+    /**
+     * 判断是否没有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean noneMatch(DoublePredicate predicate) {
+        return evaluate(() -> stream.noneMatch(predicate));
+    }
+
+    /**
+     * 获取第一个元素
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble findFirst() {
+        return evaluate(stream::findFirst);
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalDouble}
+     */
+    public OptionalDouble findFirst(DoublePredicate predicate) {
+        return evaluate(() -> stream.filter(predicate).findFirst());
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findFirstIdx(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return (int) matchIdx(predicate).findFirst().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 获取最后一个元素
+     * 数据源为数组时直接取最后一个元素，否则不会收集元素
+     *
+     * @return {@link OptionalDouble}
+     */
+    public OptionalDouble findLast() {
+        if (Objects.nonNull(source)) {
+            return OptionalDouble.of(source[source.length - 1]);
+        }
+        return evaluate(() -> stream.reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素
+     * 数据源为数组时从尾部开始查找，找到后短路，否则不会收集元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalDouble}
+     */
+    public OptionalDouble findLast(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            double[] array = source;
+            OptionalInt index = descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst();
+            return index.isPresent() ? OptionalDouble.of(array[index.getAsInt()]) : OptionalDouble.empty();
+        }
+        return evaluate(() -> stream.filter(predicate).reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findLastIdx(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            double[] array = source;
+            return descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst().orElse(NOT_FOUND_INDEX);
+        }
+        return (int) matchIdx(predicate).max().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 反转顺序
+     * 数据源为数组时返回可拆分的反向视图，不复制元素，否则在终端操作时收集为数组并原地反转
+     *
+     * @return {@link DoubleSt}
+     */
+    public DoubleSt reverse() {
+        if (Objects.nonNull(source)) {
+            double[] array = source;
+            return next(descendingIndexes(array.length).mapToDouble(i -> array[i]).onClose(stream::close));
+        }
+        DoubleStream upstream = stream;
+        Supplier<Spliterator.OfDouble> reversed = () -> {
+            double[] array = upstream.toArray();
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                double t = array[i];
+                array[i] = array[j];
+                array[j] = t;
+            }
+            return Arrays.spliterator(array);
+        };
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        return next(StreamSupport.doubleStream(reversed, characteristics, isParallel()).onClose(upstream::close));
+    }
+
+    /**
+     * 考虑性能，随便取一个
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble findAny() {
+        return evaluate(stream::findAny);
+    }
+
+    /**
+     * 装箱
+     *
+     * @return {@link St}
+     */
+    @Override
+    public St<Double> boxed() {
+        return new St<>(stream.boxed()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 返回一个串行流
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt sequential() {
+        this.stream = stream.sequential();
+        return this;
+    }
+
+    /**
+     * 将流转换为并行
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt parallel() {
+        this.stream = stream.parallel();
+        return this;
+    }
+
+    /**
+     * 返回一个无序流
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt unordered() {
+        return next(stream.unordered());
+    }
+
+    /**
+     * 在流关闭时执行操作
+     *
+     * @param closeHandler 在流关闭时执行的操作
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt onClose(Runnable closeHandler) {
+        this.stream = stream.onClose(closeHandler);
+        return this;
+    }
+
+    /**
+     * 关闭流
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * 返回流的迭代器
+     *
+     * @return {@link PrimitiveIterator.OfDouble}
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return stream.iterator();
+    }
+
+    /**
+     * 返回流的拆分器
+     *
+     * @return {@link Spliterator.OfDouble}
+     */
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return stream.spliterator();
+    }
+
+    /**
+     * 返回流的并行状态
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @return {@link String}
+     */
+    public String join() {
+        return join("");
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @param delimiter 分隔符
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter) {
+        return join(delimiter, "", "");
+    }
+
+    /**
+     * 返回拼接后的字符串，元素直接追加，不会转换为字符串
+     *
+     * @param delimiter 分隔符
+     * @param prefix    前缀
+     * @param suffix    后缀
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        StringBuilder joined = collect(StringBuilder::new, (sb, e) -> {
+            if (!sb.isEmpty()) {
+                sb.append(delimiter);
+            }
+            sb.append(e);
+        }, (l, r) -> {
+            if (!l.isEmpty() && !r.isEmpty()) {
+                l.append(delimiter);
+            }
+            l.append(r);
+        });
+        return new StringBuilder(prefix.length() + joined.length() + suffix.length())
+                .append(prefix).append(joined).append(suffix).toString();
+    }
+
+    /**
+     * 通过给定分组依据进行分组，每组元素收集为数组
+     *
+     * @param classifier 分组依据
+     * @return {@link Map}
+     */
+    public <K> Map<K, double[]> group(DoubleFunction<? extends K> classifier) {
+        Objects.requireNonNull(classifier);
+        Map<K, DoubleStream.Builder> groups = collect(HashMap::new,
+                (map, e) -> map.computeIfAbsent(classifier.apply(e), k -> DoubleStream.builder()).add(e),
+                (l, r) -> r.forEach((k, builder) -> l.merge(k, builder, (a, b) -> {
+                    b.build().forEachOrdered(a);
+                    return a;
+                })));
+        Map<K, double[]> result = new HashMap<>(groups.size() * 4 / 3 + 1);
+        groups.forEach((k, builder) -> result.put(k, builder.build().toArray()));
+        return result;
+    }
+
+    /**
+     * 与给定的可迭代对象转换成map，key为现有元素，value为给定可迭代对象迭代的元素<br>
+     * 至少包含全部的key，如果对应位置上的value不存在，则为null
+     *
+     * @param other 可迭代对象
+     * @return {@link Map}
+     */
+    public <R> Map<Double, R> toZip(Iterable<R> other) {
+        return boxed().toZip(other);
+    }
+
+    /**
+     * hashcode
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        return stream.hashCode();
+    }
+
+    /**
+     * equals
+     *
+     * @param obj 对象
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DoubleStream) {
+            return stream.equals(obj);
+        }
+        return false;
+    }
+
+    /**
+     * toString
+     *
+     * @return string
+     */
+    @Override
+    public String toString() {
+        return stream.toString();
+    }
+
+    /**
+     * 返回与给定断言匹配的元素的下标组成的流
+     *
+     * @param predicate 断言
+     * @return {@link DoubleSt}
+     */
+    private DoubleSt matchIdx(DoublePredicate predicate) {
+        return idx((e, i, action) -> {
+            if (predicate.test(e)) {
+                action.accept(i);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 通过带下标的拆分器包装当前流
+     *
+     * @param sink      带下标的元素处理
+     * @param filtering 是否会改变元素个数
+     * @return {@link DoubleSt}
+     */
+    private DoubleSt idx(IdxSpliterator.OfDouble.Sink sink, boolean filtering) {
+        boolean parallel = isParallel();
+        return next(StreamSupport.doubleStream(new IdxSpliterator.OfDouble(stream.spliterator(), sink, filtering), parallel)
+                .onClose(stream::close));
+    }
+
+    /**
+     * 返回中间操作之后的流，沿用当前流的线程池
+     *
+     * @param next 中间操作之后的流
+     * @return {@link DoubleSt}
+     */
+    private DoubleSt next(DoubleStream next) {
+        return new DoubleSt(next).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 沿用其他流的线程池
+     *
+     * @param pool     线程池
+     * @param ownsPool 线程池是否属于当前流水线
+     * @return {@link DoubleSt}
+     */
+    DoubleSt withPool(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        return this;
+    }
+
+    /**
+     * 执行终端操作，并行流指定了线程池时在该线程池中执行
+     *
+     * @param terminal 终端操作
+     * @return 终端操作的结果
+     */
+    private <R> R evaluate(Supplier<R> terminal) {
+        return St.evaluate(pool, ownsPool, isParallel(), terminal);
+    }
+
+    /**
+     * 返回从 size - 1 到 0 的下标组成的流，并行状态与当前流一致
+     *
+     * @param size 元素个数
+     * @return {@link DoubleStream}
+     */
+    private IntStream descendingIndexes(int size) {
+        int last = size - 1;
+        IntStream indexes = IntStream.range(0, size).map(i -> last - i);
+        return isParallel() ? indexes.parallel() : indexes;
+    }
+
+    /**
+     * 带下标的断言
+     */
+    @FunctionalInterface
+    public interface IdxPredicate {
+
+        /**
+         * Evaluates this predicate on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return {@code true} if the input arguments match the predicate,
+         * otherwise {@code false}
+         */
+        boolean test(double value, int index);
+    }
+
+    /**
+     * 带下标的操作
+     */
+    @FunctionalInterface
+    public interface IdxOperator {
+
+        /**
+         * Applies this operator to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the operator result
+         */
+        double apply(double value, int index);
+    }
+
+    /**
+     * 带下标的函数
+     */
+    @FunctionalInterface
+    public interface IdxFunction<R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the function result
+         */
+        R apply(double value, int index);
+    }
+
+    /**
+     * 带下标的消费者
+     */
+    @FunctionalInterface
+    public interface IdxConsumer {
+
+        /**
+         * Performs this operation on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         */
+        void accept(double value, int index);
+    }
+}
@@ -0,0 +1,249 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 外部排序
+ * 内存中只保存元素本身, 元素进入时按编码后的字节数计入内存预算, 达到预算时在内存中排序, 按排序后的顺序编码写入临时文件(一个有序段)
+ * 编码后的字节数只是元素大小的估计, 解码后的对象在堆中通常会占用更多内存, 设置预算时需要留出余量
+ * 全部元素进入后, 对各有序段以及内存中剩余的元素逐个读取并进行 k 路归并, 不会把全部元素同时放在内存中
+ * 所有临时文件在读取完毕或 {@link #close()} 时删除
+ *
+ * @author W.d
+ * @since 2026/10/16 21:10
+ **/
+final class ExternalSorter<T> implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 内存中元素个数的上限, 超过时即使未达到内存预算也会写入临时文件
+     */
+    private static final int MAX_PENDING = Integer.MAX_VALUE - 8;
+
+    private final Comparator<? super T> comparator;
+
+    private final St.Codec<T> codec;
+
+    private final long memoryBudget;
+
+    private final List<Run> runs = new ArrayList<>();
+
+    /**
+     * 当前内存中的元素
+     */
+    private final List<T> pending = new ArrayList<>();
+
+    /**
+     * 当前内存中的元素编码后的字节数之和
+     */
+    private long pendingBytes;
+
+    private final Measure measure = new Measure();
+
+    ExternalSorter(Comparator<? super T> comparator, St.Codec<T> codec, long memoryBudget) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.codec = Objects.requireNonNull(codec);
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * 消费数据源的全部元素并返回归并后的拆分器
+     *
+     * @param source 数据源
+     * @return {@link Spliterator}
+     */
+    Spliterator<T> sort(Spliterator<T> source) {
+        try {
+            source.forEachRemaining(this::add);
+            pending.sort(comparator);
+            if (runs.isEmpty()) {
+                return pending.spliterator();
+            }
+            return new MergeSpliterator();
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void add(T t) {
+        pending.add(t);
+        pendingBytes += measure.size(t);
+        if (pendingBytes >= memoryBudget || pending.size() >= MAX_PENDING) {
+            spill();
+        }
+    }
+
+    /**
+     * 对内存中的元素排序并编码写入临时文件
+     */
+    private void spill() {
+        pending.sort(comparator);
+        try {
+            Run run = new Run(Files.createTempFile("st-sort-", ".run"), pending.size());
+            runs.add(run);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(FileChannel.open(run.path, StandardOpenOption.WRITE)), BUFFER_SIZE))) {
+                for (T t : pending) {
+                    codec.encode(t, output);
+                }
+            }
+        } catch (IOException e) {
+            throw new KitException(e);
+        }
+        pending.clear();
+        pendingBytes = 0L;
+    }
+
+    /**
+     * 关闭并删除所有临时文件
+     */
+    @Override
+    public void close() {
+        runs.forEach(Run::close);
+        runs.clear();
+    }
+
+    /**
+     * 只计算字节数、不保存字节的输出流, 用于计算元素编码后的字节数
+     */
+    private final class Measure extends DataOutputStream {
+
+        private Measure() {
+            super(OutputStream.nullOutputStream());
+        }
+
+        private long size(T t) {
+            written = 0;
+            try {
+                codec.encode(t, this);
+            } catch (IOException e) {
+                throw new KitException(e);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * 临时文件中的有序段
+     */
+    private final class Run {
+
+        private final Path path;
+
+        private int remaining;
+
+        private DataInputStream input;
+
+        private Run(Path path, int count) {
+            this.path = path;
+            this.remaining = count;
+        }
+
+        private boolean hasNext() {
+            return remaining > 0;
+        }
+
+        private T next() throws IOException {
+            if (Objects.isNull(input)) {
+                input = new DataInputStream(new BufferedInputStream(
+                        Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)), BUFFER_SIZE));
+            }
+            remaining--;
+            T t = codec.decode(input);
+            if (remaining == 0) {
+                close();
+            }
+            return t;
+        }
+
+        private void close() {
+            try {
+                if (Objects.nonNull(input)) {
+                    input.close();
+                    input = null;
+                }
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new KitException(e);
+            }
+        }
+    }
+
+    /**
+     * k 路归并的拆分器, 每次从堆中取出各有序段当前元素中最小的一个
+     */
+    private final class MergeSpliterator extends Spliterators.AbstractSpliterator<T> {
+
+        /**
+         * 各有序段的当前元素, 下标小于 runs.size() 的为临时文件, 等于 runs.size() 的为内存中剩余的元素
+         */
+        private final PriorityQueue<Cursor> heap;
+
+        private final Iterator<T> memory = pending.iterator();
+
+        private MergeSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.heap = new PriorityQueue<>(runs.size() + 1, (l, r) -> {
+                int compare = comparator.compare(l.value, r.value);
+                // 值相同时按有序段的先后, 保证排序稳定
+                return compare != 0 ? compare : Integer.compare(l.run, r.run);
+            });
+            for (int i = 0; i <= runs.size(); i++) {
+                advance(i);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Cursor cursor = heap.poll();
+            if (Objects.isNull(cursor)) {
+                return false;
+            }
+            advance(cursor.run);
+            action.accept(cursor.value);
+            return true;
+        }
+
+        private void advance(int index) {
+            try {
+                if (index < runs.size()) {
+                    Run run = runs.get(index);
+                    if (run.hasNext()) {
+                        heap.add(new Cursor(index, run.next()));
+                    }
+                } else if (memory.hasNext()) {
+                    heap.add(new Cursor(index, memory.next()));
+                }
+            } catch (IOException e) {
+                close();
+                throw new KitException(e);
+            }
+        }
+    }
+
+    /**
+     * 有序段的当前元素
+     */
+    private final class Cursor {
+
+        private final int run;
+
+        private final T value;
+
+        private Cursor(int run, T value) {
+            this.run = run;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.yeluod.util;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+/**
+ * 查找最后一个匹配元素的任务
+ * 对于 SUBSIZED 的拆分器, 从尾部开始拆分并优先计算右侧的部分,
+ * 一旦右侧找到匹配元素, 左侧尚未执行的部分会被跳过, 与 {@link java.util.stream.Stream#findFirst()} 从头部短路的方式对称
+ * 已被其他线程窃取的左侧任务无法撤回, 它会在扫描过程中定期检查右侧的结果并尽快停止, 其结果不会被使用
+ *
+ * @author W.d
+ * @since 2026/10/16 10:20
+ **/
+final class FindLastTask<T> extends RecursiveTask<Object> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 扫描时每隔多少个元素检查一次右侧是否已找到匹配元素, 必须是 2 的幂减 1
+     */
+    private static final int CHECK_MASK = 1023;
+
+    /**
+     * 代表未找到元素, 用来区分找到的元素本身为 null 的情况
+     */
+    private static final Object NONE = new Object();
+
+    private final Spliterator<T> spliterator;
+
+    private final Predicate<? super T> predicate;
+
+    /**
+     * 当前任务第一个元素的位置
+     */
+    private final long origin;
+
+    /**
+     * 拆分阈值, 元素个数不大于该值时不再拆分
+     */
+    private final long threshold;
+
+    /**
+     * 目前已找到的最右侧匹配元素的位置
+     */
+    private final AtomicLong found;
+
+    private FindLastTask(Spliterator<T> spliterator, Predicate<? super T> predicate,
+                         long origin, long threshold, AtomicLong found) {
+        this.spliterator = spliterator;
+        this.predicate = predicate;
+        this.origin = origin;
+        this.threshold = threshold;
+        this.found = found;
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素, 全程不会收集元素
+     *
+     * @param spliterator 拆分器
+     * @param predicate   断言
+     * @param parallel    是否并行
+     * @return {@link Optional}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Optional<T> find(Spliterator<T> spliterator, Predicate<? super T> predicate, boolean parallel) {
+        Objects.requireNonNull(predicate);
+        Object last;
+        if (!parallel) {
+            Object[] box = {NONE};
+            spliterator.forEachRemaining(e -> {
+                if (predicate.test(e)) {
+                    box[0] = e;
+                }
+            });
+            last = box[0];
+        } else if (spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            ForkJoinPool pool = ForkJoinTask.getPool();
+            int parallelism = Objects.isNull(pool) ? ForkJoinPool.getCommonPoolParallelism() : pool.getParallelism();
+            long threshold = Math.max(spliterator.estimateSize() / ((long) parallelism << 2), 1L);
+            last = new FindLastTask<>(spliterator, predicate, 0L, threshold, new AtomicLong(-1L)).invoke();
+        } else {
+            last = StreamSupport.stream(spliterator, true)
+                    .filter(predicate)
+                    .reduce(NONE, (l, r) -> r, (l, r) -> r == NONE ? l : r);
+        }
+        return last == NONE ? Optional.empty() : Optional.ofNullable((T) last);
+    }
+
+    @Override
+    protected Object compute() {
+        long size = spliterator.estimateSize();
+        if (found.get() >= origin + size) {
+            return NONE;
+        }
+        Spliterator<T> prefix;
+        if (size > threshold && Objects.nonNull(prefix = spliterator.trySplit())) {
+            long prefixSize = prefix.getExactSizeIfKnown();
+            FindLastTask<T> left = new FindLastTask<>(prefix, predicate, origin, threshold, found);
+            FindLastTask<T> right = new FindLastTask<>(spliterator, predicate, origin + prefixSize, threshold, found);
+            left.fork();
+            Object last = right.compute();
+            if (last != NONE) {
+                // 未被窃取时直接撤回, 已被窃取时由左侧任务自己检查 found 停止
+                left.tryUnfork();
+                return last;
+            }
+            return left.join();
+        }
+        long end = origin + size;
+        Object[] box = {NONE};
+        long[] position = {origin - 1, -1L};
+        Consumer<T> step = e -> {
+            position[0]++;
+            if (predicate.test(e)) {
+                box[0] = e;
+                position[1] = position[0];
+            }
+        };
+        for (int i = 1; spliterator.tryAdvance(step); i++) {
+            if ((i & CHECK_MASK) == 0 && found.get() >= end) {
+                return NONE;
+            }
+        }
+        if (box[0] != NONE) {
+            found.accumulateAndGet(position[1], Math::max);
+        }
+        return box[0];
+    }
+}
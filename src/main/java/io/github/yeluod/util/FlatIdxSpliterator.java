@@ -0,0 +1,370 @@
+package io.github.yeluod.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 带下标的扁平化拆分器
+ * 每个元素按真实下标映射为一个流, 当前映射出的流作为内层拆分器保存, 每次 tryAdvance 只发送一个元素,
+ * 内层拆分器用尽后关闭对应的流再映射下一个元素. 与 {@link IdxSpliterator} 一样, 只有 SUBSIZED 的数据源会被拆分
+ *
+ * @author W.d
+ * @since 2026/10/16 21:20
+ **/
+final class FlatIdxSpliterator {
+
+    private FlatIdxSpliterator() {
+    }
+
+    private static int characteristics(Spliterator<?> source) {
+        return source.characteristics() & Spliterator.ORDERED;
+    }
+
+    /**
+     * 带下标的 int 扁平化拆分器
+     */
+    static final class OfInt implements Spliterator.OfInt {
+
+        private final Spliterator.OfInt source;
+
+        private final IntSt.IdxFunction<? extends IntStream> mapper;
+
+        /**
+         * 映射当前元素并保存内层拆分器
+         */
+        private final IntConsumer step = this::open;
+
+        /**
+         * 下一个元素的下标
+         */
+        private long index;
+
+        /**
+         * 当前映射出的流, 用尽或关闭后为 null
+         */
+        private IntStream mapped;
+
+        /**
+         * 当前映射出的流的拆分器
+         */
+        private Spliterator.OfInt current;
+
+        OfInt(Spliterator.OfInt source, IntSt.IdxFunction<? extends IntStream> mapper) {
+            this(source, mapper, 0L);
+        }
+
+        private OfInt(Spliterator.OfInt source, IntSt.IdxFunction<? extends IntStream> mapper, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.index = index;
+        }
+
+        private void open(int t) {
+            IntStream stream = mapper.apply(t, (int) index++);
+            if (Objects.nonNull(stream)) {
+                mapped = stream;
+                current = stream.sequential().spliterator();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            do {
+                if (Objects.nonNull(current)) {
+                    if (current.tryAdvance(action)) {
+                        return true;
+                    }
+                    close();
+                }
+            } while (source.tryAdvance(step));
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            if (Objects.nonNull(current)) {
+                current.forEachRemaining(action);
+                close();
+            }
+            source.forEachRemaining((int t) -> {
+                try (IntStream stream = mapper.apply(t, (int) index++)) {
+                    if (Objects.nonNull(stream)) {
+                        stream.sequential().forEach(action);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (Objects.nonNull(current) || !source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfInt prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            FlatIdxSpliterator.OfInt split = new FlatIdxSpliterator.OfInt(prefix, mapper, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return FlatIdxSpliterator.characteristics(source);
+        }
+
+        /**
+         * 关闭当前映射出的流, 短路终止时由外层流的 onClose 调用
+         */
+        void close() {
+            IntStream stream = mapped;
+            mapped = null;
+            current = null;
+            if (Objects.nonNull(stream)) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * 带下标的 long 扁平化拆分器
+     */
+    static final class OfLong implements Spliterator.OfLong {
+
+        private final Spliterator.OfLong source;
+
+        private final LongSt.IdxFunction<? extends LongStream> mapper;
+
+        /**
+         * 映射当前元素并保存内层拆分器
+         */
+        private final LongConsumer step = this::open;
+
+        /**
+         * 下一个元素的下标
+         */
+        private long index;
+
+        /**
+         * 当前映射出的流, 用尽或关闭后为 null
+         */
+        private LongStream mapped;
+
+        /**
+         * 当前映射出的流的拆分器
+         */
+        private Spliterator.OfLong current;
+
+        OfLong(Spliterator.OfLong source, LongSt.IdxFunction<? extends LongStream> mapper) {
+            this(source, mapper, 0L);
+        }
+
+        private OfLong(Spliterator.OfLong source, LongSt.IdxFunction<? extends LongStream> mapper, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.index = index;
+        }
+
+        private void open(long t) {
+            LongStream stream = mapper.apply(t, (int) index++);
+            if (Objects.nonNull(stream)) {
+                mapped = stream;
+                current = stream.sequential().spliterator();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            do {
+                if (Objects.nonNull(current)) {
+                    if (current.tryAdvance(action)) {
+                        return true;
+                    }
+                    close();
+                }
+            } while (source.tryAdvance(step));
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (Objects.nonNull(current)) {
+                current.forEachRemaining(action);
+                close();
+            }
+            source.forEachRemaining((long t) -> {
+                try (LongStream stream = mapper.apply(t, (int) index++)) {
+                    if (Objects.nonNull(stream)) {
+                        stream.sequential().forEach(action);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            if (Objects.nonNull(current) || !source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfLong prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            FlatIdxSpliterator.OfLong split = new FlatIdxSpliterator.OfLong(prefix, mapper, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return FlatIdxSpliterator.characteristics(source);
+        }
+
+        /**
+         * 关闭当前映射出的流, 短路终止时由外层流的 onClose 调用
+         */
+        void close() {
+            LongStream stream = mapped;
+            mapped = null;
+            current = null;
+            if (Objects.nonNull(stream)) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * 带下标的 double 扁平化拆分器
+     */
+    static final class OfDouble implements Spliterator.OfDouble {
+
+        private final Spliterator.OfDouble source;
+
+        private final DoubleSt.IdxFunction<? extends DoubleStream> mapper;
+
+        /**
+         * 映射当前元素并保存内层拆分器
+         */
+        private final DoubleConsumer step = this::open;
+
+        /**
+         * 下一个元素的下标
+         */
+        private long index;
+
+        /**
+         * 当前映射出的流, 用尽或关闭后为 null
+         */
+        private DoubleStream mapped;
+
+        /**
+         * 当前映射出的流的拆分器
+         */
+        private Spliterator.OfDouble current;
+
+        OfDouble(Spliterator.OfDouble source, DoubleSt.IdxFunction<? extends DoubleStream> mapper) {
+            this(source, mapper, 0L);
+        }
+
+        private OfDouble(Spliterator.OfDouble source, DoubleSt.IdxFunction<? extends DoubleStream> mapper, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.index = index;
+        }
+
+        private void open(double t) {
+            DoubleStream stream = mapper.apply(t, (int) index++);
+            if (Objects.nonNull(stream)) {
+                mapped = stream;
+                current = stream.sequential().spliterator();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            do {
+                if (Objects.nonNull(current)) {
+                    if (current.tryAdvance(action)) {
+                        return true;
+                    }
+                    close();
+                }
+            } while (source.tryAdvance(step));
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            if (Objects.nonNull(current)) {
+                current.forEachRemaining(action);
+                close();
+            }
+            source.forEachRemaining((double t) -> {
+                try (DoubleStream stream = mapper.apply(t, (int) index++)) {
+                    if (Objects.nonNull(stream)) {
+                        stream.sequential().forEach(action);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            if (Objects.nonNull(current) || !source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfDouble prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            FlatIdxSpliterator.OfDouble split = new FlatIdxSpliterator.OfDouble(prefix, mapper, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return FlatIdxSpliterator.characteristics(source);
+        }
+
+        /**
+         * 关闭当前映射出的流, 短路终止时由外层流的 onClose 调用
+         */
+        void close() {
+            DoubleStream stream = mapped;
+            mapped = null;
+            current = null;
+            if (Objects.nonNull(stream)) {
+                stream.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * 融合执行的流水线
+ * 记录小型随机访问数据源上的中间操作, 终端操作时将所有中间操作融合为一个按下标遍历的循环直接执行,
+ * 不需要创建 {@link Stream} 流水线、拆分器以及 Sink 链
+ * 遇到不支持融合的操作时, 通过 {@link #stream()} 按记录的顺序重新构建 {@link Stream}
+ *
+ * @author W.d
+ * @since 2026/10/16 17:10
+ **/
+final class FusedPipeline<T> {
+
+    /**
+     * 融合执行的数据源元素个数上限, 超过该值时使用 {@link Stream} 执行
+     */
+    static final int THRESHOLD = 64;
+
+    private final List<?> source;
+
+    /**
+     * 上一个阶段, 为 null 时表示当前为数据源阶段
+     */
+    private final FusedPipeline<?> upstream;
+
+    /**
+     * 在 {@link Stream} 上重放当前阶段的操作
+     */
+    private final UnaryOperator<Stream<Object>> streamOp;
+
+    /**
+     * 将接收当前阶段输出的下游包装为接收上一阶段输出的下游, 下游返回 false 时停止遍历
+     */
+    private final UnaryOperator<Predicate<Object>> sinkOp;
+
+    /**
+     * 是否已经被中间操作或终端操作使用过
+     */
+    private boolean linked;
+
+    private FusedPipeline(List<?> source, FusedPipeline<?> upstream,
+                          UnaryOperator<Stream<Object>> streamOp, UnaryOperator<Predicate<Object>> sinkOp) {
+        this.source = source;
+        this.upstream = upstream;
+        this.streamOp = streamOp;
+        this.sinkOp = sinkOp;
+    }
+
+    /**
+     * 如果数据源适合融合执行, 返回数据源阶段, 否则返回 null
+     *
+     * @param source 数据源
+     * @return {@link FusedPipeline}
+     */
+    static <T> FusedPipeline<T> of(List<T> source) {
+        return source instanceof RandomAccess && source.size() <= THRESHOLD
+                ? new FusedPipeline<>(source, null, null, null) : null;
+    }
+
+    private <R> FusedPipeline<R> then(UnaryOperator<Stream<Object>> streamOp, UnaryOperator<Predicate<Object>> sinkOp) {
+        link();
+        return new FusedPipeline<>(source, this, streamOp, sinkOp);
+    }
+
+    @SuppressWarnings("unchecked")
+    FusedPipeline<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return then(s -> s.filter(e -> predicate.test((T) e)),
+                sink -> e -> !predicate.test((T) e) || sink.test(e));
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> FusedPipeline<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return then(s -> s.map(e -> mapper.apply((T) e)),
+                sink -> e -> sink.test(mapper.apply((T) e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    FusedPipeline<T> peek(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        return then(s -> s.peek(e -> action.accept((T) e)),
+                sink -> e -> {
+                    action.accept((T) e);
+                    return sink.test(e);
+                });
+    }
+
+    FusedPipeline<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(Long.toString(maxSize));
+        }
+        return then(s -> s.limit(maxSize), sink -> {
+            long[] count = {0L};
+            return e -> count[0]++ < maxSize && sink.test(e) && count[0] < maxSize;
+        });
+    }
+
+    FusedPipeline<T> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(Long.toString(n));
+        }
+        return then(s -> s.skip(n), sink -> {
+            long[] count = {0L};
+            return e -> count[0]++ < n || sink.test(e);
+        });
+    }
+
+    /**
+     * 按记录的操作重新构建 {@link Stream}
+     *
+     * @return {@link Stream}
+     */
+    @SuppressWarnings("unchecked")
+    Stream<T> stream() {
+        link();
+        return (Stream<T>) replay();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<Object> replay() {
+        return Objects.isNull(upstream) ? ((List<Object>) source).stream() : streamOp.apply(upstream.replay());
+    }
+
+    /**
+     * 执行融合后的循环
+     *
+     * @param sink 下游, 返回 false 时停止遍历
+     */
+    void run(Predicate<? super T> sink) {
+        link();
+        @SuppressWarnings("unchecked")
+        Predicate<Object> head = wrap((Predicate<Object>) sink);
+        for (int i = 0, size = source.size(); i < size; i++) {
+            if (!head.test(source.get(i))) {
+                return;
+            }
+        }
+    }
+
+    private Predicate<Object> wrap(Predicate<Object> sink) {
+        return Objects.isNull(upstream) ? sink : upstream.wrap(sinkOp.apply(sink));
+    }
+
+    private void link() {
+        if (linked) {
+            throw new IllegalStateException("stream has already been operated upon or closed");
+        }
+        linked = true;
+    }
+
+    /**
+     * 当前阶段输出的元素个数上限
+     *
+     * @return 元素个数上限
+     */
+    int sizeHint() {
+        return source.size();
+    }
+
+    void forEach(Consumer<? super T> action) {
+        run(e -> {
+            action.accept(e);
+            return true;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    <R, A> R collect(Collector<? super T, A, R> collector) {
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        run(e -> {
+            accumulator.accept(container, e);
+            return true;
+        });
+        return collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? (R) container : collector.finisher().apply(container);
+    }
+
+    <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator) {
+        R container = supplier.get();
+        run(e -> {
+            accumulator.accept(container, e);
+            return true;
+        });
+        return container;
+    }
+
+    List<T> toList() {
+        List<T> list = new ArrayList<>(sizeHint());
+        forEach(list::add);
+        return list;
+    }
+
+    long count() {
+        long[] count = {0L};
+        run(e -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    Optional<T> findFirst() {
+        Box<T> first = new Box<>();
+        run(e -> {
+            first.set(e);
+            return false;
+        });
+        return first.present ? Optional.of(first.value) : Optional.empty();
+    }
+
+    boolean anyMatch(Predicate<? super T> predicate) {
+        boolean[] matched = {false};
+        run(e -> !(matched[0] = predicate.test(e)));
+        return matched[0];
+    }
+
+    boolean allMatch(Predicate<? super T> predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    T reduce(T identity, BinaryOperator<T> accumulator) {
+        Box<T> result = new Box<>();
+        result.set(identity);
+        forEach(e -> result.set(accumulator.apply(result.value, e)));
+        return result.value;
+    }
+
+    Optional<T> reduce(BinaryOperator<T> accumulator) {
+        Box<T> result = new Box<>();
+        forEach(e -> result.set(result.present ? accumulator.apply(result.value, e) : e));
+        return result.present ? Optional.of(result.value) : Optional.empty();
+    }
+
+    /**
+     * 终端操作的结果容器
+     */
+    private static final class Box<T> {
+
+        private T value;
+
+        private boolean present;
+
+        private void set(T value) {
+            this.value = value;
+            this.present = true;
+        }
+    }
+}
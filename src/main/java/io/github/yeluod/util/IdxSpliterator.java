@@ -0,0 +1,403 @@
+package io.github.yeluod.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 携带下标的拆分器
+ * 每个拆分出的子拆分器持有自己的起始下标, 对于 SUBSIZED 的数据源(ArrayList、数组等),
+ * 并行流中每个元素都能拿到真实的下标, 且不需要任何共享的原子计数器
+ * 非 SUBSIZED 的数据源不会被拆分, 以保证下标正确
+ *
+ * @author W.d
+ * @since 2026/10/16 09:30
+ **/
+final class IdxSpliterator<T, R> implements Spliterator<R> {
+
+    /**
+     * 带下标的元素处理
+     */
+    @FunctionalInterface
+    interface Sink<T, R> {
+
+        /**
+         * 处理一个元素
+         *
+         * @param t      元素
+         * @param index  元素下标
+         * @param action 下游操作
+         * @return 是否向下游发送了元素
+         */
+        boolean accept(T t, int index, Consumer<? super R> action);
+    }
+
+    private final Spliterator<T> source;
+
+    private final Sink<? super T, R> sink;
+
+    /**
+     * 是否会改变元素个数, 会改变时不再具有 SIZED 特征
+     */
+    private final boolean filtering;
+
+    /**
+     * 下一个元素的下标
+     */
+    private long index;
+
+    /**
+     * tryAdvance 当前的下游操作, 与 step、emitted 一起作为字段复用, 逐个元素遍历时不分配对象
+     */
+    private Consumer<? super R> downstream;
+
+    /**
+     * 最近处理的元素是否向下游发送了元素
+     */
+    private boolean emitted;
+
+    private final Consumer<T> step = this::step;
+
+    IdxSpliterator(Spliterator<T> source, Sink<? super T, R> sink, boolean filtering) {
+        this(source, sink, filtering, 0L);
+    }
+
+    private IdxSpliterator(Spliterator<T> source, Sink<? super T, R> sink, boolean filtering, long index) {
+        this.source = Objects.requireNonNull(source);
+        this.sink = Objects.requireNonNull(sink);
+        this.filtering = filtering;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        this.downstream = Objects.requireNonNull(action);
+        while (source.tryAdvance(step)) {
+            if (emitted) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void step(T t) {
+        emitted = sink.accept(t, (int) index++, downstream);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        Objects.requireNonNull(action);
+        source.forEachRemaining(t -> sink.accept(t, (int) index++, action));
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return null;
+        }
+        Spliterator<T> prefix = source.trySplit();
+        if (Objects.isNull(prefix)) {
+            return null;
+        }
+        IdxSpliterator<T, R> split = new IdxSpliterator<>(prefix, sink, filtering, index);
+        index += prefix.getExactSizeIfKnown();
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics(source, filtering);
+    }
+
+    private static int characteristics(Spliterator<?> source, boolean filtering) {
+        int characteristics = source.characteristics() & ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+        return filtering ? characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED) : characteristics;
+    }
+
+    /**
+     * 携带下标的 int 拆分器
+     */
+    static final class OfInt implements Spliterator.OfInt {
+
+        /**
+         * 带下标的元素处理
+         */
+        @FunctionalInterface
+        interface Sink {
+
+            /**
+             * 处理一个元素
+             *
+             * @param t      元素
+             * @param index  元素下标
+             * @param action 下游操作
+             * @return 是否向下游发送了元素
+             */
+            boolean accept(int t, int index, IntConsumer action);
+        }
+
+        private final Spliterator.OfInt source;
+
+        private final Sink sink;
+
+        private final boolean filtering;
+
+        private long index;
+
+        private IntConsumer downstream;
+
+        private boolean emitted;
+
+        private final IntConsumer step = this::step;
+
+        OfInt(Spliterator.OfInt source, Sink sink, boolean filtering) {
+            this(source, sink, filtering, 0L);
+        }
+
+        private OfInt(Spliterator.OfInt source, Sink sink, boolean filtering, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.sink = Objects.requireNonNull(sink);
+            this.filtering = filtering;
+            this.index = index;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            this.downstream = Objects.requireNonNull(action);
+            while (source.tryAdvance(step)) {
+                if (emitted) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void step(int t) {
+            emitted = sink.accept(t, (int) index++, downstream);
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEachRemaining((int t) -> sink.accept(t, (int) index++, action));
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfInt prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            IdxSpliterator.OfInt split = new IdxSpliterator.OfInt(prefix, sink, filtering, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return IdxSpliterator.characteristics(source, filtering);
+        }
+    }
+
+    /**
+     * 携带下标的 long 拆分器
+     */
+    static final class OfLong implements Spliterator.OfLong {
+
+        /**
+         * 带下标的元素处理
+         */
+        @FunctionalInterface
+        interface Sink {
+
+            /**
+             * 处理一个元素
+             *
+             * @param t      元素
+             * @param index  元素下标
+             * @param action 下游操作
+             * @return 是否向下游发送了元素
+             */
+            boolean accept(long t, int index, LongConsumer action);
+        }
+
+        private final Spliterator.OfLong source;
+
+        private final Sink sink;
+
+        private final boolean filtering;
+
+        private long index;
+
+        private LongConsumer downstream;
+
+        private boolean emitted;
+
+        private final LongConsumer step = this::step;
+
+        OfLong(Spliterator.OfLong source, Sink sink, boolean filtering) {
+            this(source, sink, filtering, 0L);
+        }
+
+        private OfLong(Spliterator.OfLong source, Sink sink, boolean filtering, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.sink = Objects.requireNonNull(sink);
+            this.filtering = filtering;
+            this.index = index;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            this.downstream = Objects.requireNonNull(action);
+            while (source.tryAdvance(step)) {
+                if (emitted) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void step(long t) {
+            emitted = sink.accept(t, (int) index++, downstream);
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEachRemaining((long t) -> sink.accept(t, (int) index++, action));
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfLong prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            IdxSpliterator.OfLong split = new IdxSpliterator.OfLong(prefix, sink, filtering, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return IdxSpliterator.characteristics(source, filtering);
+        }
+    }
+
+    /**
+     * 携带下标的 double 拆分器
+     */
+    static final class OfDouble implements Spliterator.OfDouble {
+
+        /**
+         * 带下标的元素处理
+         */
+        @FunctionalInterface
+        interface Sink {
+
+            /**
+             * 处理一个元素
+             *
+             * @param t      元素
+             * @param index  元素下标
+             * @param action 下游操作
+             * @return 是否向下游发送了元素
+             */
+            boolean accept(double t, int index, DoubleConsumer action);
+        }
+
+        private final Spliterator.OfDouble source;
+
+        private final Sink sink;
+
+        private final boolean filtering;
+
+        private long index;
+
+        private DoubleConsumer downstream;
+
+        private boolean emitted;
+
+        private final DoubleConsumer step = this::step;
+
+        OfDouble(Spliterator.OfDouble source, Sink sink, boolean filtering) {
+            this(source, sink, filtering, 0L);
+        }
+
+        private OfDouble(Spliterator.OfDouble source, Sink sink, boolean filtering, long index) {
+            this.source = Objects.requireNonNull(source);
+            this.sink = Objects.requireNonNull(sink);
+            this.filtering = filtering;
+            this.index = index;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            this.downstream = Objects.requireNonNull(action);
+            while (source.tryAdvance(step)) {
+                if (emitted) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void step(double t) {
+            emitted = sink.accept(t, (int) index++, downstream);
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEachRemaining((double t) -> sink.accept(t, (int) index++, action));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfDouble prefix = source.trySplit();
+            if (Objects.isNull(prefix)) {
+                return null;
+            }
+            IdxSpliterator.OfDouble split = new IdxSpliterator.OfDouble(prefix, sink, filtering, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return IdxSpliterator.characteristics(source, filtering);
+        }
+    }
+}
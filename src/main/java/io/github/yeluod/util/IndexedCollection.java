@@ -0,0 +1,474 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.function.LambdaMeta;
+import io.github.yeluod.util.function.SerFunction;
+
+import java.util.*;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 带索引的集合
+ * 通过 getter(如 User::getTenantId)建立哈希索引或有序索引, 等值查询为 O(1), 范围查询为 O(log n), 不再遍历全部元素
+ * 多个条件的查询以命中元素最少的条件为驱动, 其余条件逐个校验, 不会为每个条件构建结果集
+ * 元素按 equals/hashCode 去重, 不能为 null; 建立索引的属性在元素加入后不能修改, 否则需要先移除再重新加入
+ * 非线程安全
+ * <pre>
+ * IndexedCollection&lt;User&gt; users = IndexedCollection.of(list)
+ *         .hashIndex(User::getTenantId)
+ *         .sortedIndex(User::getAge);
+ * users.eq(User::getTenantId, 7);
+ * users.query().eq(User::getTenantId, 7).between(User::getAge, 18, 30).stream();
+ * </pre>
+ *
+ * @author W.d
+ * @since 2026/10/16 23:40
+ **/
+@SuppressWarnings("unused")
+public class IndexedCollection<T> extends AbstractCollection<T> {
+
+    /**
+     * 元素, value 为集合中保存的实例, 删除时按保存的实例计算索引的 key, 而不是按传入的参数
+     */
+    private final Map<T, T> elements = new LinkedHashMap<>();
+
+    /**
+     * 索引, 以 getter 的实现方法为 key, 不同位置的 User::getName 对应同一个索引
+     */
+    private final Map<LambdaMeta, Index<T>> indexes = new HashMap<>();
+
+    public IndexedCollection() {
+    }
+
+    public IndexedCollection(Collection<? extends T> elements) {
+        addAll(elements);
+    }
+
+    /**
+     * 通过传入的集合创建
+     *
+     * @param elements 元素
+     * @param <T>      元素类型
+     * @return {@link IndexedCollection}
+     */
+    public static <T> IndexedCollection<T> of(Collection<? extends T> elements) {
+        return new IndexedCollection<>(Objects.requireNonNull(elements));
+    }
+
+    /**
+     * 建立哈希索引, 用于等值查询
+     *
+     * @param getter getter, 不能捕获变量
+     * @param <K>    属性类型
+     * @return 本身
+     */
+    public <K> IndexedCollection<T> hashIndex(SerFunction<? super T, ? extends K> getter) {
+        return index(getter, new Index<>(getter, new HashMap<>()));
+    }
+
+    /**
+     * 建立有序索引, 用于范围查询以及等值查询
+     *
+     * @param getter getter, 不能捕获变量
+     * @param <K>    属性类型
+     * @return 本身
+     */
+    public <K extends Comparable<? super K>> IndexedCollection<T> sortedIndex(SerFunction<? super T, ? extends K> getter) {
+        return index(getter, new SortedIndex<>(getter));
+    }
+
+    private IndexedCollection<T> index(SerFunction<? super T, ?> getter, Index<T> index) {
+        LambdaMeta meta = LambdaMeta.of(Objects.requireNonNull(getter));
+        if (meta.getCapturedArgCount() > 0) {
+            throw new IllegalArgumentException("Index getter must not capture variables: " + meta);
+        }
+        elements.keySet().forEach(index::add);
+        indexes.put(meta, index);
+        return this;
+    }
+
+    @Override
+    public boolean add(T t) {
+        Objects.requireNonNull(t);
+        if (Objects.nonNull(elements.putIfAbsent(t, t))) {
+            return false;
+        }
+        for (Index<T> index : indexes.values()) {
+            index.add(t);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        T stored = elements.remove(o);
+        if (Objects.isNull(stored)) {
+            return false;
+        }
+        unindex(stored);
+        return true;
+    }
+
+    private void unindex(T t) {
+        for (Index<T> index : indexes.values()) {
+            index.remove(t);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.containsKey(o);
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        indexes.values().forEach(Index::clear);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = elements.keySet().iterator();
+        return new Iterator<>() {
+
+            private T last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(last);
+            }
+        };
+    }
+
+    @Override
+    public St<T> stream() {
+        return St.of(elements.keySet());
+    }
+
+    /**
+     * 返回属性等于给定值的元素, 没有索引时遍历全部元素
+     *
+     * @param getter getter
+     * @param value  用来匹配的值
+     * @param <K>    属性类型
+     * @return {@link St}
+     */
+    public <K> St<T> eq(SerFunction<? super T, ? extends K> getter, K value) {
+        return query().eq(getter, value).stream();
+    }
+
+    /**
+     * 返回属性在给定范围内的元素, 没有有序索引时遍历全部元素, 属性为 null 的元素不会返回
+     *
+     * @param getter        getter
+     * @param from          下界, 为 null 时不限制
+     * @param fromInclusive 是否包含下界
+     * @param to            上界, 为 null 时不限制
+     * @param toInclusive   是否包含上界
+     * @param <K>           属性类型
+     * @return {@link St}
+     */
+    public <K extends Comparable<? super K>> St<T> range(SerFunction<? super T, ? extends K> getter,
+                                                          K from, boolean fromInclusive,
+                                                          K to, boolean toInclusive) {
+        return query().range(getter, from, fromInclusive, to, toInclusive).stream();
+    }
+
+    /**
+     * 返回属性在 [from, to] 内的元素
+     *
+     * @param getter getter
+     * @param from   下界, 为 null 时不限制
+     * @param to     上界, 为 null 时不限制
+     * @param <K>    属性类型
+     * @return {@link St}
+     * @see #range(SerFunction, Comparable, boolean, Comparable, boolean)
+     */
+    public <K extends Comparable<? super K>> St<T> between(SerFunction<? super T, ? extends K> getter, K from, K to) {
+        return range(getter, from, true, to, true);
+    }
+
+    /**
+     * 创建多条件查询
+     *
+     * @return {@link Query}
+     */
+    public Query query() {
+        return new Query();
+    }
+
+    /**
+     * 多条件查询, 条件之间为且的关系
+     */
+    public final class Query {
+
+        private final List<Condition<T>> conditions = new ArrayList<>();
+
+        private Query() {
+        }
+
+        /**
+         * 属性等于给定值
+         *
+         * @param getter getter
+         * @param value  用来匹配的值
+         * @param <K>    属性类型
+         * @return 本身
+         */
+        public <K> Query eq(SerFunction<? super T, ? extends K> getter, K value) {
+            Objects.requireNonNull(getter);
+            Predicate<T> test = t -> Objects.equals(getter.apply(t), value);
+            Index<T> index = indexes.get(LambdaMeta.of(getter));
+            if (Objects.isNull(index)) {
+                conditions.add(new Condition<>(limit -> elements.size(), elements.keySet(), test, false));
+            } else {
+                Set<T> hits = index.get(value);
+                conditions.add(new Condition<>(limit -> hits.size(), hits, test, true));
+            }
+            return this;
+        }
+
+        /**
+         * 属性在给定范围内, 属性为 null 的元素不匹配
+         *
+         * @param getter        getter
+         * @param from          下界, 为 null 时不限制
+         * @param fromInclusive 是否包含下界
+         * @param to            上界, 为 null 时不限制
+         * @param toInclusive   是否包含上界
+         * @param <K>           属性类型
+         * @return 本身
+         */
+        public <K extends Comparable<? super K>> Query range(SerFunction<? super T, ? extends K> getter,
+                                                              K from, boolean fromInclusive,
+                                                              K to, boolean toInclusive) {
+            Objects.requireNonNull(getter);
+            Predicate<T> test = t -> {
+                K key = getter.apply(t);
+                return Objects.nonNull(key) && inRange(key, from, fromInclusive, to, toInclusive);
+            };
+            if (indexes.get(LambdaMeta.of(getter)) instanceof SortedIndex<T> sorted) {
+                Buckets<T> buckets = new Buckets<>(sorted.range(from, fromInclusive, to, toInclusive));
+                conditions.add(new Condition<>(buckets::count, buckets, test, true));
+            } else {
+                conditions.add(new Condition<>(limit -> elements.size(), elements.keySet(), test, false));
+            }
+            return this;
+        }
+
+        /**
+         * 属性在 [from, to] 内
+         *
+         * @param getter getter
+         * @param from   下界, 为 null 时不限制
+         * @param to     上界, 为 null 时不限制
+         * @param <K>    属性类型
+         * @return 本身
+         */
+        public <K extends Comparable<? super K>> Query between(SerFunction<? super T, ? extends K> getter, K from, K to) {
+            return range(getter, from, true, to, true);
+        }
+
+        /**
+         * 执行查询, 以命中元素最少的条件为驱动, 其余条件逐个校验
+         * 范围条件的命中个数需要遍历区间内的每个值, 放在最后计算, 超过当前最少的个数时停止计数
+         *
+         * @return {@link St}
+         */
+        public St<T> stream() {
+            if (conditions.isEmpty()) {
+                return IndexedCollection.this.stream();
+            }
+            Condition<T> driver = null;
+            long min = Long.MAX_VALUE;
+            for (Condition<T> condition : conditions) {
+                if (!(condition.candidates instanceof Buckets)) {
+                    long size = condition.size.applyAsLong(min);
+                    if (Objects.isNull(driver) || size < min) {
+                        driver = condition;
+                        min = size;
+                    }
+                }
+            }
+            for (Condition<T> condition : conditions) {
+                if (condition.candidates instanceof Buckets) {
+                    long size = condition.size.applyAsLong(min);
+                    if (Objects.isNull(driver) || size < min) {
+                        driver = condition;
+                        min = size;
+                    }
+                }
+            }
+            Predicate<T> rest = null;
+            for (Condition<T> condition : conditions) {
+                if (condition != driver || !condition.indexed) {
+                    rest = Objects.isNull(rest) ? condition.test : rest.and(condition.test);
+                }
+            }
+            Stream<T> stream = driver.candidates.stream();
+            return St.of(Objects.isNull(rest) ? stream : stream.filter(rest));
+        }
+    }
+
+    private static <K extends Comparable<? super K>> boolean inRange(K key, K from, boolean fromInclusive,
+                                                                     K to, boolean toInclusive) {
+        if (Objects.nonNull(from)) {
+            int compare = key.compareTo(from);
+            if (compare < 0 || (compare == 0 && !fromInclusive)) {
+                return false;
+            }
+        }
+        if (Objects.nonNull(to)) {
+            int compare = key.compareTo(to);
+            return compare < 0 || (compare == 0 && toInclusive);
+        }
+        return true;
+    }
+
+    /**
+     * 查询条件
+     *
+     * @param size       候选元素个数, 参数为上限, 超过上限时可以停止计数并返回任意大于上限的值
+     * @param candidates 候选元素
+     * @param test       校验元素是否满足条件
+     * @param indexed    候选元素是否由索引得到, 是则候选元素都满足条件
+     */
+    private record Condition<T>(LongUnaryOperator size, Collection<T> candidates, Predicate<T> test, boolean indexed) {
+    }
+
+    /**
+     * 哈希索引, 属性为 null 的元素单独存放
+     */
+    private static class Index<T> {
+
+        private final SerFunction<? super T, ?> getter;
+
+        final Map<Object, Set<T>> buckets;
+
+        private final Set<T> nulls = new LinkedHashSet<>();
+
+        private Index(SerFunction<? super T, ?> getter, Map<Object, Set<T>> buckets) {
+            this.getter = getter;
+            this.buckets = buckets;
+        }
+
+        private void add(T t) {
+            Object key = getter.apply(t);
+            if (Objects.isNull(key)) {
+                nulls.add(t);
+            } else {
+                buckets.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(t);
+            }
+        }
+
+        private void remove(T t) {
+            Object key = getter.apply(t);
+            if (Objects.isNull(key)) {
+                nulls.remove(t);
+                return;
+            }
+            Set<T> bucket = buckets.get(key);
+            if (Objects.nonNull(bucket) && bucket.remove(t) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+
+        private Set<T> get(Object key) {
+            Set<T> bucket = Objects.isNull(key) ? nulls : buckets.get(key);
+            return Objects.isNull(bucket) ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+        }
+
+        private void clear() {
+            buckets.clear();
+            nulls.clear();
+        }
+    }
+
+    /**
+     * 有序索引
+     */
+    private static final class SortedIndex<T> extends Index<T> {
+
+        private SortedIndex(SerFunction<? super T, ?> getter) {
+            super(getter, new TreeMap<>());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <K extends Comparable<? super K>> Collection<Set<T>> range(K from, boolean fromInclusive,
+                                                                          K to, boolean toInclusive) {
+            NavigableMap<Object, Set<T>> map = (NavigableMap<Object, Set<T>>) buckets;
+            if (Objects.nonNull(from) && Objects.nonNull(to)) {
+                int compare = from.compareTo(to);
+                if (compare > 0 || (compare == 0 && !(fromInclusive && toInclusive))) {
+                    return Collections.emptyList();
+                }
+                return map.subMap(from, fromInclusive, to, toInclusive).values();
+            }
+            if (Objects.nonNull(from)) {
+                return map.tailMap(from, fromInclusive).values();
+            }
+            if (Objects.nonNull(to)) {
+                return map.headMap(to, toInclusive).values();
+            }
+            return map.values();
+        }
+    }
+
+    /**
+     * 多个桶拼接的只读视图
+     */
+    private static final class Buckets<T> extends AbstractCollection<T> {
+
+        private final Collection<Set<T>> buckets;
+
+        private Buckets(Collection<Set<T>> buckets) {
+            this.buckets = buckets;
+        }
+
+        /**
+         * 元素个数, 超过 limit 时停止计数
+         */
+        private long count(long limit) {
+            long count = 0;
+            for (Set<T> bucket : buckets) {
+                count += bucket.size();
+                if (count > limit) {
+                    break;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return buckets.stream().flatMap(Set::stream).iterator();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return buckets.stream().flatMap(Set::stream);
+        }
+
+        @Override
+        public int size() {
+            return (int) count(Integer.MAX_VALUE);
+        }
+    }
+}
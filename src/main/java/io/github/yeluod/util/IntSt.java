@@ -0,0 +1,980 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * IntSt
+ * int 类型的 {@link St}, 所有操作都直接作用在 int 上, 不会装箱
+ *
+ * @author W.d
+ * @since 2026/10/16 14:30
+ **/
+@SuppressWarnings("unused")
+public class IntSt implements IntStream {
+
+    /**
+     * 代表不存在的下标
+     */
+    private static final int NOT_FOUND_INDEX = -1;
+
+    protected IntStream stream;
+
+    /**
+     * 数据源数组, 仅当流直接由数组创建且未经过中间操作时存在, 否则为 null
+     */
+    private final int[] source;
+
+    /**
+     * 并行流执行终端操作的线程池, 由 {@link St#parallel(ForkJoinPool)} 沿用而来, 为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * {@link #pool} 是否由 {@link St#parallel(int)} 为当前流水线创建, 是则在终端操作结束时关闭
+     */
+    private boolean ownsPool;
+
+    public IntSt(IntStream stream) {
+        this(stream, null);
+    }
+
+    private IntSt(IntStream stream, int[] source) {
+        this.stream = stream;
+        this.source = source;
+    }
+
+    /**
+     * 返回空的串行流
+     *
+     * @return {@link IntSt}
+     */
+    public static IntSt empty() {
+        return new IntSt(IntStream.empty());
+    }
+
+    /**
+     * 返回包含单个元素的串行流
+     *
+     * @param t 单个元素
+     * @return {@link IntSt}
+     */
+    public static IntSt of(int t) {
+        return of(new int[]{t});
+    }
+
+    /**
+     * 返回包含指定元素的串行流, 不会复制数组
+     *
+     * @param values 元素数组
+     * @return {@link IntSt}
+     */
+    public static IntSt of(int... values) {
+        if (Objects.isNull(values) || values.length == 0) {
+            return empty();
+        }
+        return new IntSt(Arrays.stream(values), values);
+    }
+
+    /**
+     * 通过传入的{@link IntStream}创建流
+     *
+     * @param stream {@link IntStream}
+     * @return {@link IntSt}
+     */
+    public static IntSt of(IntStream stream) {
+        return new IntSt(Objects.requireNonNull(stream));
+    }
+
+    /**
+     * 返回从 startInclusive(包含) 到 endExclusive(不包含) 的有序流
+     *
+     * @param startInclusive 起始值(包含)
+     * @param endExclusive   结束值(不包含)
+     * @return {@link IntSt}
+     */
+    public static IntSt range(int startInclusive, int endExclusive) {
+        return new IntSt(IntStream.range(startInclusive, endExclusive));
+    }
+
+    /**
+     * 返回从 startInclusive(包含) 到 endInclusive(包含) 的有序流
+     *
+     * @param startInclusive 起始值(包含)
+     * @param endInclusive   结束值(包含)
+     * @return {@link IntSt}
+     */
+    public static IntSt rangeClosed(int startInclusive, int endInclusive) {
+        return new IntSt(IntStream.rangeClosed(startInclusive, endInclusive));
+    }
+
+    /**
+     * 返回无限有序流
+     *
+     * @param seed 初始值
+     * @param f    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link IntSt}
+     */
+    public static IntSt iterate(int seed, IntUnaryOperator f) {
+        return new IntSt(IntStream.iterate(seed, f));
+    }
+
+    /**
+     * 返回有序流, 直到条件不满足时结束
+     *
+     * @param seed    初始值
+     * @param hasNext 条件值
+     * @param next    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link IntSt}
+     */
+    public static IntSt iterate(int seed, IntPredicate hasNext, IntUnaryOperator next) {
+        return new IntSt(IntStream.iterate(seed, hasNext, next));
+    }
+
+    /**
+     * 返回无限串行无序流, 其中每一个元素都由给定的{@link IntSupplier}生成
+     *
+     * @param s 用来生成元素的 {@link IntSupplier}
+     * @return {@link IntSt}
+     */
+    public static IntSt generate(IntSupplier s) {
+        return new IntSt(IntStream.generate(s));
+    }
+
+    /**
+     * 创建一个惰性拼接流，其元素是第一个流的所有元素，然后是第二个流的所有元素
+     *
+     * @param a 第一个流
+     * @param b 第二个流
+     * @return {@link IntSt}
+     */
+    public static IntSt concat(IntStream a, IntStream b) {
+        return new IntSt(IntStream.concat(a, b));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流
+     *
+     * @param predicate 断言
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt filter(IntPredicate predicate) {
+        return next(stream.filter(predicate));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流，断言带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param predicate 断言
+     * @return {@link IntSt}
+     */
+    public IntSt filterIdx(IdxPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return idx((e, i, action) -> {
+            if (predicate.test(e, i)) {
+                action.accept(e);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt map(IntUnaryOperator mapper) {
+        return next(stream.map(mapper));
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param mapper 指定的函数
+     * @return {@link IntSt}
+     */
+    public IntSt mapIdx(IdxOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return idx((e, i, action) -> {
+            action.accept(mapper.apply(e, i));
+            return true;
+        }, false);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link St}
+     */
+    @Override
+    public <U> St<U> mapToObj(IntFunction<? extends U> mapper) {
+        return new St<U>(stream.mapToObj(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link IntSt#map(IntUnaryOperator)}一样，只不过函数的返回值必须为long类型
+     *
+     * @param mapper 返回值为long类型的函数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt mapToLong(IntToLongFunction mapper) {
+        return new LongSt(stream.mapToLong(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link IntSt#map(IntUnaryOperator)}一样，只不过函数的返回值必须为double类型
+     *
+     * @param mapper 返回值为double类型的函数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt mapToDouble(IntToDoubleFunction mapper) {
+        return new DoubleSt(stream.mapToDouble(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
+     *
+     * @param mapper 操作，返回流
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt flatMap(IntFunction<? extends IntStream> mapper) {
+        return next(stream.flatMap(mapper));
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流，操作带下标
+     *
+     * @param mapper 操作，返回流
+     * @return {@link IntSt}
+     */
+    public IntSt flatIdx(IdxFunction<? extends IntStream> mapper) {
+        Objects.requireNonNull(mapper);
+        boolean parallel = isParallel();
+        FlatIdxSpliterator.OfInt spliterator = new FlatIdxSpliterator.OfInt(stream.spliterator(), mapper);
+        return next(StreamSupport.intStream(spliterator, parallel).onClose(spliterator::close).onClose(stream::close));
+    }
+
+    /**
+     * 扩散流操作，将原有流元素执行mapper操作，操作带一个方法，调用该方法可增加元素
+     *
+     * @param mapper 操作
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt mapMulti(IntMapMultiConsumer mapper) {
+        return next(stream.mapMulti(mapper));
+    }
+
+    /**
+     * 返回一个具有去重特征的流
+     *
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt distinct() {
+        return next(stream.distinct());
+    }
+
+    /**
+     * 返回一个元素按自然顺序排序的流
+     *
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt sorted() {
+        return next(stream.sorted());
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行后组成的流
+     *
+     * @param action 指定的函数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt peek(IntConsumer action) {
+        return next(stream.peek(action));
+    }
+
+    /**
+     * 返回截取后面一些元素的流
+     *
+     * @param maxSize 元素截取后的个数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt limit(long maxSize) {
+        return next(stream.limit(maxSize));
+    }
+
+    /**
+     * 返回丢弃前面n个元素后的剩余元素组成的流
+     *
+     * @param n 需要丢弃的元素个数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt skip(long n) {
+        return next(stream.skip(n));
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEach(IntConsumer action) {
+        evaluate(() -> {
+            stream.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素按照顺序执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEachOrdered(IntConsumer action) {
+        evaluate(() -> {
+            stream.forEachOrdered(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param action 操作
+     */
+    public void forEachIdx(IdxConsumer action) {
+        Objects.requireNonNull(action);
+        idx((e, i, ignore) -> {
+            action.accept(e, i);
+            return false;
+        }, true).forEach(e -> {
+        });
+    }
+
+    /**
+     * 返回一个包含此流元素的数组
+     *
+     * @return int[]
+     */
+    @Override
+    public int[] toArray() {
+        return evaluate(stream::toArray);
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后的值
+     *
+     * @param identity 初始值
+     * @param op       聚合操作
+     * @return 聚合后的值
+     */
+    @Override
+    public int reduce(int identity, IntBinaryOperator op) {
+        return evaluate(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后用 {@link OptionalInt}包裹的值
+     *
+     * @param op 聚合操作
+     * @return {@link OptionalInt}
+     */
+    @Override
+    public OptionalInt reduce(IntBinaryOperator op) {
+        return evaluate(() -> stream.reduce(op));
+    }
+
+    /**
+     * 对元素进行收集，并返回收集后的容器
+     *
+     * @param supplier    提供初始值的函数式接口，一般可以传入构造参数
+     * @param accumulator 具体收集操作
+     * @param combiner    用于并行流时组合多个结果
+     * @return 收集后的容器
+     */
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return evaluate(() -> stream.collect(supplier, accumulator, combiner));
+    }
+
+    /**
+     * 求和
+     *
+     * @return int
+     */
+    @Override
+    public int sum() {
+        return evaluate(stream::sum);
+    }
+
+    /**
+     * 获取最小值
+     *
+     * @return {@link OptionalInt}
+     */
+    @Override
+    public OptionalInt min() {
+        return evaluate(stream::min);
+    }
+
+    /**
+     * 获取最大值
+     *
+     * @return {@link OptionalInt}
+     */
+    @Override
+    public OptionalInt max() {
+        return evaluate(stream::max);
+    }
+
+    /**
+     * 返回流元素个数
+     *
+     * @return long
+     */
+    @Override
+    public long count() {
+        return evaluate(stream::count);
+    }
+
+    /**
+     * 获取平均值
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble average() {
+        return evaluate(stream::average);
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return {@link IntSummaryStatistics}
+     */
+    @Override
+    public IntSummaryStatistics summaryStatistics() {
+        return evaluate(stream::summaryStatistics);
+    }
+
+    /**
+     * 判断是否有任何一个元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean anyMatch(IntPredicate predicate) {
+        return evaluate(() -> stream.anyMatch(predicate));
+    }
+
+    /**
+     * 判断是否所有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean allMatch(IntPredicate predicate) {
+        return evaluate(() -> stream.allMatch(predicate));
+    }
+
+    /**
+     * 判断是否没有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean noneMatch(IntPredicate predicate) {
+        return evaluate(() -> stream.noneMatch(predicate));
+    }
+
+    /**
+     * 获取第一个元素
+     *
+     * @return {@link OptionalInt}
+     */
+    @Override
+    public OptionalInt findFirst() {
+        return evaluate(stream::findFirst);
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalInt}
+     */
+    public OptionalInt findFirst(IntPredicate predicate) {
+        return evaluate(() -> stream.filter(predicate).findFirst());
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findFirstIdx(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return matchIdx(predicate).findFirst().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 获取最后一个元素
+     * 数据源为数组时直接取最后一个元素，否则不会收集元素
+     *
+     * @return {@link OptionalInt}
+     */
+    public OptionalInt findLast() {
+        if (Objects.nonNull(source)) {
+            return OptionalInt.of(source[source.length - 1]);
+        }
+        return evaluate(() -> stream.reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素
+     * 数据源为数组时从尾部开始查找，找到后短路，否则不会收集元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalInt}
+     */
+    public OptionalInt findLast(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            int[] array = source;
+            OptionalInt index = descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst();
+            return index.isPresent() ? OptionalInt.of(array[index.getAsInt()]) : OptionalInt.empty();
+        }
+        return evaluate(() -> stream.filter(predicate).reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findLastIdx(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            int[] array = source;
+            return descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst().orElse(NOT_FOUND_INDEX);
+        }
+        return matchIdx(predicate).max().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 反转顺序
+     * 数据源为数组时返回可拆分的反向视图，不复制元素，否则在终端操作时收集为数组并原地反转
+     *
+     * @return {@link IntSt}
+     */
+    public IntSt reverse() {
+        if (Objects.nonNull(source)) {
+            int[] array = source;
+            return next(descendingIndexes(array.length).map(i -> array[i]).onClose(stream::close));
+        }
+        IntStream upstream = stream;
+        Supplier<Spliterator.OfInt> reversed = () -> {
+            int[] array = upstream.toArray();
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                int t = array[i];
+                array[i] = array[j];
+                array[j] = t;
+            }
+            return Arrays.spliterator(array);
+        };
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        return next(StreamSupport.intStream(reversed, characteristics, isParallel()).onClose(upstream::close));
+    }
+
+    /**
+     * 考虑性能，随便取一个
+     *
+     * @return {@link OptionalInt}
+     */
+    @Override
+    public OptionalInt findAny() {
+        return evaluate(stream::findAny);
+    }
+
+    /**
+     * 转换为 {@link LongSt}
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt asLongStream() {
+        return new LongSt(stream.asLongStream()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 转换为 {@link DoubleSt}
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt asDoubleStream() {
+        return new DoubleSt(stream.asDoubleStream()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 装箱
+     *
+     * @return {@link St}
+     */
+    @Override
+    public St<Integer> boxed() {
+        return new St<>(stream.boxed()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 返回一个串行流
+     *
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt sequential() {
+        this.stream = stream.sequential();
+        return this;
+    }
+
+    /**
+     * 将流转换为并行
+     *
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt parallel() {
+        this.stream = stream.parallel();
+        return this;
+    }
+
+    /**
+     * 返回一个无序流
+     *
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt unordered() {
+        return next(stream.unordered());
+    }
+
+    /**
+     * 在流关闭时执行操作
+     *
+     * @param closeHandler 在流关闭时执行的操作
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt onClose(Runnable closeHandler) {
+        this.stream = stream.onClose(closeHandler);
+        return this;
+    }
+
+    /**
+     * 关闭流
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * 返回流的迭代器
+     *
+     * @return {@link PrimitiveIterator.OfInt}
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return stream.iterator();
+    }
+
+    /**
+     * 返回流的拆分器
+     *
+     * @return {@link Spliterator.OfInt}
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return stream.spliterator();
+    }
+
+    /**
+     * 返回流的并行状态
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @return {@link String}
+     */
+    public String join() {
+        return join("");
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @param delimiter 分隔符
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter) {
+        return join(delimiter, "", "");
+    }
+
+    /**
+     * 返回拼接后的字符串，元素直接追加，不会转换为字符串
+     *
+     * @param delimiter 分隔符
+     * @param prefix    前缀
+     * @param suffix    后缀
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        StringBuilder joined = collect(StringBuilder::new, (sb, e) -> {
+            if (!sb.isEmpty()) {
+                sb.append(delimiter);
+            }
+            sb.append(e);
+        }, (l, r) -> {
+            if (!l.isEmpty() && !r.isEmpty()) {
+                l.append(delimiter);
+            }
+            l.append(r);
+        });
+        return new StringBuilder(prefix.length() + joined.length() + suffix.length())
+                .append(prefix).append(joined).append(suffix).toString();
+    }
+
+    /**
+     * 通过给定分组依据进行分组，每组元素收集为数组
+     *
+     * @param classifier 分组依据
+     * @return {@link Map}
+     */
+    public <K> Map<K, int[]> group(IntFunction<? extends K> classifier) {
+        Objects.requireNonNull(classifier);
+        Map<K, IntStream.Builder> groups = collect(HashMap::new,
+                (map, e) -> map.computeIfAbsent(classifier.apply(e), k -> IntStream.builder()).add(e),
+                (l, r) -> r.forEach((k, builder) -> l.merge(k, builder, (a, b) -> {
+                    b.build().forEachOrdered(a);
+                    return a;
+                })));
+        Map<K, int[]> result = new HashMap<>(groups.size() * 4 / 3 + 1);
+        groups.forEach((k, builder) -> result.put(k, builder.build().toArray()));
+        return result;
+    }
+
+    /**
+     * 与给定的可迭代对象转换成map，key为现有元素，value为给定可迭代对象迭代的元素<br>
+     * 至少包含全部的key，如果对应位置上的value不存在，则为null
+     *
+     * @param other 可迭代对象
+     * @return {@link Map}
+     */
+    public <R> Map<Integer, R> toZip(Iterable<R> other) {
+        return boxed().toZip(other);
+    }
+
+    /**
+     * hashcode
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        return stream.hashCode();
+    }
+
+    /**
+     * equals
+     *
+     * @param obj 对象
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntStream) {
+            return stream.equals(obj);
+        }
+        return false;
+    }
+
+    /**
+     * toString
+     *
+     * @return string
+     */
+    @Override
+    public String toString() {
+        return stream.toString();
+    }
+
+    /**
+     * 返回与给定断言匹配的元素的下标组成的流
+     *
+     * @param predicate 断言
+     * @return {@link IntSt}
+     */
+    private IntSt matchIdx(IntPredicate predicate) {
+        return idx((e, i, action) -> {
+            if (predicate.test(e)) {
+                action.accept(i);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 通过带下标的拆分器包装当前流
+     *
+     * @param sink      带下标的元素处理
+     * @param filtering 是否会改变元素个数
+     * @return {@link IntSt}
+     */
+    private IntSt idx(IdxSpliterator.OfInt.Sink sink, boolean filtering) {
+        boolean parallel = isParallel();
+        return next(StreamSupport.intStream(new IdxSpliterator.OfInt(stream.spliterator(), sink, filtering), parallel)
+                .onClose(stream::close));
+    }
+
+    /**
+     * 返回中间操作之后的流，沿用当前流的线程池
+     *
+     * @param next 中间操作之后的流
+     * @return {@link IntSt}
+     */
+    private IntSt next(IntStream next) {
+        return new IntSt(next).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 沿用其他流的线程池
+     *
+     * @param pool     线程池
+     * @param ownsPool 线程池是否属于当前流水线
+     * @return {@link IntSt}
+     */
+    IntSt withPool(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        return this;
+    }
+
+    /**
+     * 执行终端操作，并行流指定了线程池时在该线程池中执行
+     *
+     * @param terminal 终端操作
+     * @return 终端操作的结果
+     */
+    private <R> R evaluate(Supplier<R> terminal) {
+        return St.evaluate(pool, ownsPool, isParallel(), terminal);
+    }
+
+    /**
+     * 返回从 size - 1 到 0 的下标组成的流，并行状态与当前流一致
+     *
+     * @param size 元素个数
+     * @return {@link IntStream}
+     */
+    private IntStream descendingIndexes(int size) {
+        int last = size - 1;
+        IntStream indexes = IntStream.range(0, size).map(i -> last - i);
+        return isParallel() ? indexes.parallel() : indexes;
+    }
+
+    /**
+     * 带下标的断言
+     */
+    @FunctionalInterface
+    public interface IdxPredicate {
+
+        /**
+         * Evaluates this predicate on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return {@code true} if the input arguments match the predicate,
+         * otherwise {@code false}
+         */
+        boolean test(int value, int index);
+    }
+
+    /**
+     * 带下标的操作
+     */
+    @FunctionalInterface
+    public interface IdxOperator {
+
+        /**
+         * Applies this operator to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the operator result
+         */
+        int apply(int value, int index);
+    }
+
+    /**
+     * 带下标的函数
+     */
+    @FunctionalInterface
+    public interface IdxFunction<R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the function result
+         */
+        R apply(int value, int index);
+    }
+
+    /**
+     * 带下标的消费者
+     */
+    @FunctionalInterface
+    public interface IdxConsumer {
+
+        /**
+         * Performs this operation on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         */
+        void accept(int value, int index);
+    }
+}
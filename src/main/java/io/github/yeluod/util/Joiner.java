@@ -0,0 +1,105 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 并行流拼接字符串的容器
+ * 每个线程只记录需要拼接的 {@link CharSequence} 及其总长度, 合并时只合并列表,
+ * 最后按精确的长度创建一次 {@link StringBuilder}, 不会在合并时反复复制字符
+ *
+ * @author W.d
+ * @since 2026/10/16 22:40
+ **/
+final class Joiner {
+
+    private final CharSequence delimiter;
+
+    private final List<CharSequence> parts = new ArrayList<>();
+
+    private long length;
+
+    Joiner(CharSequence delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    void add(Object element) {
+        CharSequence part = toCharSequence(element);
+        parts.add(part);
+        length += part.length();
+    }
+
+    Joiner merge(Joiner other) {
+        parts.addAll(other.parts);
+        length += other.length;
+        return this;
+    }
+
+    String join(CharSequence prefix, CharSequence suffix) {
+        long capacity = length + prefix.length() + suffix.length()
+                        + (long) Math.max(parts.size() - 1, 0) * delimiter.length();
+        StringBuilder builder = new StringBuilder((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+        builder.append(prefix);
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                builder.append(delimiter);
+            }
+            builder.append(parts.get(i));
+        }
+        return builder.append(suffix).toString();
+    }
+
+    /**
+     * 元素为 {@link CharSequence} 时直接拼接, 否则转换为 {@link String}
+     *
+     * @param element 元素
+     * @return {@link CharSequence}
+     */
+    static CharSequence toCharSequence(Object element) {
+        return element instanceof CharSequence sequence ? sequence : String.valueOf(element);
+    }
+
+    /**
+     * 按顺序直接写入 {@link Appendable} 的拼接操作
+     */
+    static final class Appender implements Consumer<Object> {
+
+        private final Appendable appendable;
+
+        private final CharSequence delimiter;
+
+        private boolean first = true;
+
+        Appender(Appendable appendable, CharSequence delimiter) {
+            this.appendable = Objects.requireNonNull(appendable);
+            this.delimiter = Objects.requireNonNull(delimiter);
+        }
+
+        @Override
+        public void accept(Object element) {
+            try {
+                if (first) {
+                    first = false;
+                } else {
+                    appendable.append(delimiter);
+                }
+                appendable.append(toCharSequence(element));
+            } catch (IOException e) {
+                throw new KitException(e);
+            }
+        }
+
+        void append(CharSequence sequence) {
+            try {
+                appendable.append(sequence);
+            } catch (IOException e) {
+                throw new KitException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.yeluod.util;
+
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 内存映射文件的行拆分器
+ * 文件按固定大小分段映射, 按 \n 分行并去掉行尾的 \r, 拆分时从中点向后找到换行符, 使每个子拆分器都只包含完整的行
+ * 只支持 \n 只能以单字节 0x0A 出现的字符集(UTF-8、ISO-8859-1、US-ASCII)
+ * 输出视图时, 纯 ASCII 的行(ISO-8859-1 时为所有行)直接引用映射的字节, 不创建 {@link String}
+ *
+ * @author W.d
+ * @since 2026/10/16 21:40
+ **/
+final class LinesSpliterator implements Spliterator<CharSequence> {
+
+    /**
+     * 每段映射的大小
+     */
+    static final int SEGMENT_SHIFT = 30;
+
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final MappedByteBuffer[] segments;
+
+    private final Charset charset;
+
+    private final boolean view;
+
+    /**
+     * 下一行的起始位置
+     */
+    private long position;
+
+    private final long end;
+
+    /**
+     * 复制行字节用于解码的缓冲区
+     */
+    private byte[] scratch;
+
+    LinesSpliterator(MappedByteBuffer[] segments, Charset charset, boolean view, long position, long end) {
+        this.segments = segments;
+        this.charset = charset;
+        this.view = view;
+        this.position = position;
+        this.end = end;
+    }
+
+    /**
+     * 是否支持按字节查找换行符
+     *
+     * @param charset 字符集
+     * @return {@link Boolean}
+     */
+    static boolean supports(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+               || StandardCharsets.ISO_8859_1.equals(charset)
+               || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    private byte get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CharSequence> action) {
+        Objects.requireNonNull(action);
+        if (position >= end) {
+            return false;
+        }
+        long start = position;
+        long index = start;
+        boolean ascii = true;
+        byte b;
+        while (index < end && (b = get(index)) != '\n') {
+            ascii &= b >= 0;
+            index++;
+        }
+        position = index + 1;
+        long stop = index > start && get(index - 1) == '\r' ? index - 1 : index;
+        action.accept(line(start, (int) (stop - start), ascii));
+        return true;
+    }
+
+    private CharSequence line(long start, int length, boolean ascii) {
+        int segment = (int) (start >>> SEGMENT_SHIFT);
+        int offset = (int) (start & SEGMENT_MASK);
+        boolean contiguous = offset + length <= segments[segment].limit();
+        if (view && contiguous && (ascii || StandardCharsets.ISO_8859_1.equals(charset))) {
+            return new ByteCharSequence(segments[segment], offset, length);
+        }
+        if (Objects.isNull(scratch) || scratch.length < length) {
+            scratch = new byte[Math.max(length, 256)];
+        }
+        if (contiguous) {
+            segments[segment].get(offset, scratch, 0, length);
+        } else {
+            int head = segments[segment].limit() - offset;
+            segments[segment].get(offset, scratch, 0, head);
+            segments[segment + 1].get(0, scratch, head, length - head);
+        }
+        return new String(scratch, 0, length, charset);
+    }
+
+    @Override
+    public Spliterator<CharSequence> trySplit() {
+        long mid = (position + end) >>> 1;
+        while (mid < end && get(mid) != '\n') {
+            mid++;
+        }
+        if (mid >= end - 1 || mid <= position) {
+            return null;
+        }
+        LinesSpliterator prefix = new LinesSpliterator(segments, charset, view, position, mid + 1);
+        position = mid + 1;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // 按平均每行 64 字节估算
+        return Math.max((end - position) >>> 6, end > position ? 1L : 0L);
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    /**
+     * 单字节字符的行视图, 直接引用映射的字节
+     */
+    private static final class ByteCharSequence implements CharSequence {
+
+        private final MappedByteBuffer buffer;
+
+        private final int offset;
+
+        private final int length;
+
+        private ByteCharSequence(MappedByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            return (char) (buffer.get(offset + index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new ByteCharSequence(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes, 0, length);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.yeluod.util;
+
+/**
+ * long 的开放寻址哈希集合
+ * 元素直接保存在 long 数组中, 使用线性探测解决冲突, 不装箱、也不为每个元素创建节点
+ * 0 作为空槽位的标记, 元素 0 单独记录
+ * 非线程安全
+ *
+ * @author W.d
+ * @since 2026/10/16 20:10
+ **/
+final class LongHashSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] table = new long[INITIAL_CAPACITY];
+
+    private int mask = INITIAL_CAPACITY - 1;
+
+    private boolean containsZero;
+
+    /**
+     * 不包含元素 0 的元素个数
+     */
+    private int size;
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     * @return 集合中原本不存在该元素时为 true
+     */
+    boolean add(long value) {
+        if (value == 0L) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int slot = mix(value) & mask;
+        long current;
+        while ((current = table[slot]) != 0L) {
+            if (current == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        // 负载因子 0.5, 保证线性探测的序列足够短
+        if (++size > (mask + 1) >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (long value : old) {
+            if (value != 0L) {
+                int slot = mix(value) & mask;
+                while (table[slot] != 0L) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * MurmurHash3 的 fmix64, 打散连续的 key
+     */
+    static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+}
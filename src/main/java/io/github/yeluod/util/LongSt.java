@@ -0,0 +1,970 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * LongSt
+ * long 类型的 {@link St}, 所有操作都直接作用在 long 上, 不会装箱
+ *
+ * @author W.d
+ * @since 2026/10/16 15:10
+ **/
+@SuppressWarnings("unused")
+public class LongSt implements LongStream {
+
+    /**
+     * 代表不存在的下标
+     */
+    private static final int NOT_FOUND_INDEX = -1;
+
+    protected LongStream stream;
+
+    /**
+     * 数据源数组, 仅当流直接由数组创建且未经过中间操作时存在, 否则为 null
+     */
+    private final long[] source;
+
+    /**
+     * 并行流执行终端操作的线程池, 由 {@link St#parallel(ForkJoinPool)} 沿用而来, 为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * {@link #pool} 是否由 {@link St#parallel(int)} 为当前流水线创建, 是则在终端操作结束时关闭
+     */
+    private boolean ownsPool;
+
+    public LongSt(LongStream stream) {
+        this(stream, null);
+    }
+
+    private LongSt(LongStream stream, long[] source) {
+        this.stream = stream;
+        this.source = source;
+    }
+
+    /**
+     * 返回空的串行流
+     *
+     * @return {@link LongSt}
+     */
+    public static LongSt empty() {
+        return new LongSt(LongStream.empty());
+    }
+
+    /**
+     * 返回包含单个元素的串行流
+     *
+     * @param t 单个元素
+     * @return {@link LongSt}
+     */
+    public static LongSt of(long t) {
+        return of(new long[]{t});
+    }
+
+    /**
+     * 返回包含指定元素的串行流, 不会复制数组
+     *
+     * @param values 元素数组
+     * @return {@link LongSt}
+     */
+    public static LongSt of(long... values) {
+        if (Objects.isNull(values) || values.length == 0) {
+            return empty();
+        }
+        return new LongSt(Arrays.stream(values), values);
+    }
+
+    /**
+     * 通过传入的{@link LongStream}创建流
+     *
+     * @param stream {@link LongStream}
+     * @return {@link LongSt}
+     */
+    public static LongSt of(LongStream stream) {
+        return new LongSt(Objects.requireNonNull(stream));
+    }
+
+    /**
+     * 返回从 startInclusive(包含) 到 endExclusive(不包含) 的有序流
+     *
+     * @param startInclusive 起始值(包含)
+     * @param endExclusive   结束值(不包含)
+     * @return {@link LongSt}
+     */
+    public static LongSt range(long startInclusive, long endExclusive) {
+        return new LongSt(LongStream.range(startInclusive, endExclusive));
+    }
+
+    /**
+     * 返回从 startInclusive(包含) 到 endInclusive(包含) 的有序流
+     *
+     * @param startInclusive 起始值(包含)
+     * @param endInclusive   结束值(包含)
+     * @return {@link LongSt}
+     */
+    public static LongSt rangeClosed(long startInclusive, long endInclusive) {
+        return new LongSt(LongStream.rangeClosed(startInclusive, endInclusive));
+    }
+
+    /**
+     * 返回无限有序流
+     *
+     * @param seed 初始值
+     * @param f    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link LongSt}
+     */
+    public static LongSt iterate(long seed, LongUnaryOperator f) {
+        return new LongSt(LongStream.iterate(seed, f));
+    }
+
+    /**
+     * 返回有序流, 直到条件不满足时结束
+     *
+     * @param seed    初始值
+     * @param hasNext 条件值
+     * @param next    用上一个元素作为参数执行并返回一个新的元素
+     * @return {@link LongSt}
+     */
+    public static LongSt iterate(long seed, LongPredicate hasNext, LongUnaryOperator next) {
+        return new LongSt(LongStream.iterate(seed, hasNext, next));
+    }
+
+    /**
+     * 返回无限串行无序流, 其中每一个元素都由给定的{@link LongSupplier}生成
+     *
+     * @param s 用来生成元素的 {@link LongSupplier}
+     * @return {@link LongSt}
+     */
+    public static LongSt generate(LongSupplier s) {
+        return new LongSt(LongStream.generate(s));
+    }
+
+    /**
+     * 创建一个惰性拼接流，其元素是第一个流的所有元素，然后是第二个流的所有元素
+     *
+     * @param a 第一个流
+     * @param b 第二个流
+     * @return {@link LongSt}
+     */
+    public static LongSt concat(LongStream a, LongStream b) {
+        return new LongSt(LongStream.concat(a, b));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流
+     *
+     * @param predicate 断言
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt filter(LongPredicate predicate) {
+        return next(stream.filter(predicate));
+    }
+
+    /**
+     * 过滤元素，返回与指定断言匹配的元素组成的流，断言带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param predicate 断言
+     * @return {@link LongSt}
+     */
+    public LongSt filterIdx(IdxPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return idx((e, i, action) -> {
+            if (predicate.test(e, i)) {
+                action.accept(e);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt map(LongUnaryOperator mapper) {
+        return next(stream.map(mapper));
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param mapper 指定的函数
+     * @return {@link LongSt}
+     */
+    public LongSt mapIdx(IdxOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return idx((e, i, action) -> {
+            action.accept(mapper.apply(e, i));
+            return true;
+        }, false);
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行的结果组成的流
+     *
+     * @param mapper 指定的函数
+     * @return {@link St}
+     */
+    @Override
+    public <U> St<U> mapToObj(LongFunction<? extends U> mapper) {
+        return new St<U>(stream.mapToObj(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link LongSt#map(LongUnaryOperator)}一样，只不过函数的返回值必须为int类型
+     *
+     * @param mapper 返回值为int类型的函数
+     * @return {@link IntSt}
+     */
+    @Override
+    public IntSt mapToInt(LongToIntFunction mapper) {
+        return new IntSt(stream.mapToInt(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 和{@link LongSt#map(LongUnaryOperator)}一样，只不过函数的返回值必须为double类型
+     *
+     * @param mapper 返回值为double类型的函数
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt mapToDouble(LongToDoubleFunction mapper) {
+        return new DoubleSt(stream.mapToDouble(mapper)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
+     *
+     * @param mapper 操作，返回流
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt flatMap(LongFunction<? extends LongStream> mapper) {
+        return next(stream.flatMap(mapper));
+    }
+
+    /**
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流，操作带下标
+     *
+     * @param mapper 操作，返回流
+     * @return {@link LongSt}
+     */
+    public LongSt flatIdx(IdxFunction<? extends LongStream> mapper) {
+        Objects.requireNonNull(mapper);
+        boolean parallel = isParallel();
+        FlatIdxSpliterator.OfLong spliterator = new FlatIdxSpliterator.OfLong(stream.spliterator(), mapper);
+        return next(StreamSupport.longStream(spliterator, parallel).onClose(spliterator::close).onClose(stream::close));
+    }
+
+    /**
+     * 扩散流操作，将原有流元素执行mapper操作，操作带一个方法，调用该方法可增加元素
+     *
+     * @param mapper 操作
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt mapMulti(LongMapMultiConsumer mapper) {
+        return next(stream.mapMulti(mapper));
+    }
+
+    /**
+     * 返回一个具有去重特征的流
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt distinct() {
+        return next(stream.distinct());
+    }
+
+    /**
+     * 返回一个元素按自然顺序排序的流
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt sorted() {
+        return next(stream.sorted());
+    }
+
+    /**
+     * 返回与指定函数将元素作为参数执行后组成的流
+     *
+     * @param action 指定的函数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt peek(LongConsumer action) {
+        return next(stream.peek(action));
+    }
+
+    /**
+     * 返回截取后面一些元素的流
+     *
+     * @param maxSize 元素截取后的个数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt limit(long maxSize) {
+        return next(stream.limit(maxSize));
+    }
+
+    /**
+     * 返回丢弃前面n个元素后的剩余元素组成的流
+     *
+     * @param n 需要丢弃的元素个数
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt skip(long n) {
+        return next(stream.skip(n));
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEach(LongConsumer action) {
+        evaluate(() -> {
+            stream.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素按照顺序执行一个操作
+     *
+     * @param action 操作
+     */
+    @Override
+    public void forEachOrdered(LongConsumer action) {
+        evaluate(() -> {
+            stream.forEachOrdered(action);
+            return null;
+        });
+    }
+
+    /**
+     * 对流里面的每一个元素执行一个操作，操作带下标
+     * 并行流时，SUBSIZED 的数据源按拆分计算真实下标，其他数据源不再拆分
+     *
+     * @param action 操作
+     */
+    public void forEachIdx(IdxConsumer action) {
+        Objects.requireNonNull(action);
+        idx((e, i, ignore) -> {
+            action.accept(e, i);
+            return false;
+        }, true).forEach(e -> {
+        });
+    }
+
+    /**
+     * 返回一个包含此流元素的数组
+     *
+     * @return long[]
+     */
+    @Override
+    public long[] toArray() {
+        return evaluate(stream::toArray);
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后的值
+     *
+     * @param identity 初始值
+     * @param op       聚合操作
+     * @return 聚合后的值
+     */
+    @Override
+    public long reduce(long identity, LongBinaryOperator op) {
+        return evaluate(() -> stream.reduce(identity, op));
+    }
+
+    /**
+     * 对元素进行聚合，并返回聚合后用 {@link OptionalLong}包裹的值
+     *
+     * @param op 聚合操作
+     * @return {@link OptionalLong}
+     */
+    @Override
+    public OptionalLong reduce(LongBinaryOperator op) {
+        return evaluate(() -> stream.reduce(op));
+    }
+
+    /**
+     * 对元素进行收集，并返回收集后的容器
+     *
+     * @param supplier    提供初始值的函数式接口，一般可以传入构造参数
+     * @param accumulator 具体收集操作
+     * @param combiner    用于并行流时组合多个结果
+     * @return 收集后的容器
+     */
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return evaluate(() -> stream.collect(supplier, accumulator, combiner));
+    }
+
+    /**
+     * 求和
+     *
+     * @return long
+     */
+    @Override
+    public long sum() {
+        return evaluate(stream::sum);
+    }
+
+    /**
+     * 获取最小值
+     *
+     * @return {@link OptionalLong}
+     */
+    @Override
+    public OptionalLong min() {
+        return evaluate(stream::min);
+    }
+
+    /**
+     * 获取最大值
+     *
+     * @return {@link OptionalLong}
+     */
+    @Override
+    public OptionalLong max() {
+        return evaluate(stream::max);
+    }
+
+    /**
+     * 返回流元素个数
+     *
+     * @return long
+     */
+    @Override
+    public long count() {
+        return evaluate(stream::count);
+    }
+
+    /**
+     * 获取平均值
+     *
+     * @return {@link OptionalDouble}
+     */
+    @Override
+    public OptionalDouble average() {
+        return evaluate(stream::average);
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return {@link LongSummaryStatistics}
+     */
+    @Override
+    public LongSummaryStatistics summaryStatistics() {
+        return evaluate(stream::summaryStatistics);
+    }
+
+    /**
+     * 判断是否有任何一个元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean anyMatch(LongPredicate predicate) {
+        return evaluate(() -> stream.anyMatch(predicate));
+    }
+
+    /**
+     * 判断是否所有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean allMatch(LongPredicate predicate) {
+        return evaluate(() -> stream.allMatch(predicate));
+    }
+
+    /**
+     * 判断是否没有元素满足给定断言
+     *
+     * @param predicate 断言
+     * @return boolean
+     */
+    @Override
+    public boolean noneMatch(LongPredicate predicate) {
+        return evaluate(() -> stream.noneMatch(predicate));
+    }
+
+    /**
+     * 获取第一个元素
+     *
+     * @return {@link OptionalLong}
+     */
+    @Override
+    public OptionalLong findFirst() {
+        return evaluate(stream::findFirst);
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalLong}
+     */
+    public OptionalLong findFirst(LongPredicate predicate) {
+        return evaluate(() -> stream.filter(predicate).findFirst());
+    }
+
+    /**
+     * 获取与给定断言匹配的第一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findFirstIdx(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return (int) matchIdx(predicate).findFirst().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 获取最后一个元素
+     * 数据源为数组时直接取最后一个元素，否则不会收集元素
+     *
+     * @return {@link OptionalLong}
+     */
+    public OptionalLong findLast() {
+        if (Objects.nonNull(source)) {
+            return OptionalLong.of(source[source.length - 1]);
+        }
+        return evaluate(() -> stream.reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素
+     * 数据源为数组时从尾部开始查找，找到后短路，否则不会收集元素
+     *
+     * @param predicate 断言
+     * @return {@link OptionalLong}
+     */
+    public OptionalLong findLast(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            long[] array = source;
+            OptionalInt index = descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst();
+            return index.isPresent() ? OptionalLong.of(array[index.getAsInt()]) : OptionalLong.empty();
+        }
+        return evaluate(() -> stream.filter(predicate).reduce((l, r) -> r));
+    }
+
+    /**
+     * 获取与给定断言匹配的最后一个元素的下标，未找到时为-1
+     *
+     * @param predicate 断言
+     * @return int
+     */
+    public int findLastIdx(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        if (Objects.nonNull(source)) {
+            long[] array = source;
+            return descendingIndexes(array.length).filter(i -> predicate.test(array[i])).findFirst().orElse(NOT_FOUND_INDEX);
+        }
+        return (int) matchIdx(predicate).max().orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 反转顺序
+     * 数据源为数组时返回可拆分的反向视图，不复制元素，否则在终端操作时收集为数组并原地反转
+     *
+     * @return {@link LongSt}
+     */
+    public LongSt reverse() {
+        if (Objects.nonNull(source)) {
+            long[] array = source;
+            return next(descendingIndexes(array.length).mapToLong(i -> array[i]).onClose(stream::close));
+        }
+        LongStream upstream = stream;
+        Supplier<Spliterator.OfLong> reversed = () -> {
+            long[] array = upstream.toArray();
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                long t = array[i];
+                array[i] = array[j];
+                array[j] = t;
+            }
+            return Arrays.spliterator(array);
+        };
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        return next(StreamSupport.longStream(reversed, characteristics, isParallel()).onClose(upstream::close));
+    }
+
+    /**
+     * 考虑性能，随便取一个
+     *
+     * @return {@link OptionalLong}
+     */
+    @Override
+    public OptionalLong findAny() {
+        return evaluate(stream::findAny);
+    }
+
+    /**
+     * 转换为 {@link DoubleSt}
+     *
+     * @return {@link DoubleSt}
+     */
+    @Override
+    public DoubleSt asDoubleStream() {
+        return new DoubleSt(stream.asDoubleStream()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 装箱
+     *
+     * @return {@link St}
+     */
+    @Override
+    public St<Long> boxed() {
+        return new St<>(stream.boxed()).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 返回一个串行流
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt sequential() {
+        this.stream = stream.sequential();
+        return this;
+    }
+
+    /**
+     * 将流转换为并行
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt parallel() {
+        this.stream = stream.parallel();
+        return this;
+    }
+
+    /**
+     * 返回一个无序流
+     *
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt unordered() {
+        return next(stream.unordered());
+    }
+
+    /**
+     * 在流关闭时执行操作
+     *
+     * @param closeHandler 在流关闭时执行的操作
+     * @return {@link LongSt}
+     */
+    @Override
+    public LongSt onClose(Runnable closeHandler) {
+        this.stream = stream.onClose(closeHandler);
+        return this;
+    }
+
+    /**
+     * 关闭流
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * 返回流的迭代器
+     *
+     * @return {@link PrimitiveIterator.OfLong}
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return stream.iterator();
+    }
+
+    /**
+     * 返回流的拆分器
+     *
+     * @return {@link Spliterator.OfLong}
+     */
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return stream.spliterator();
+    }
+
+    /**
+     * 返回流的并行状态
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @return {@link String}
+     */
+    public String join() {
+        return join("");
+    }
+
+    /**
+     * 返回拼接后的字符串
+     *
+     * @param delimiter 分隔符
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter) {
+        return join(delimiter, "", "");
+    }
+
+    /**
+     * 返回拼接后的字符串，元素直接追加，不会转换为字符串
+     *
+     * @param delimiter 分隔符
+     * @param prefix    前缀
+     * @param suffix    后缀
+     * @return {@link String}
+     */
+    public String join(CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        StringBuilder joined = collect(StringBuilder::new, (sb, e) -> {
+            if (!sb.isEmpty()) {
+                sb.append(delimiter);
+            }
+            sb.append(e);
+        }, (l, r) -> {
+            if (!l.isEmpty() && !r.isEmpty()) {
+                l.append(delimiter);
+            }
+            l.append(r);
+        });
+        return new StringBuilder(prefix.length() + joined.length() + suffix.length())
+                .append(prefix).append(joined).append(suffix).toString();
+    }
+
+    /**
+     * 通过给定分组依据进行分组，每组元素收集为数组
+     *
+     * @param classifier 分组依据
+     * @return {@link Map}
+     */
+    public <K> Map<K, long[]> group(LongFunction<? extends K> classifier) {
+        Objects.requireNonNull(classifier);
+        Map<K, LongStream.Builder> groups = collect(HashMap::new,
+                (map, e) -> map.computeIfAbsent(classifier.apply(e), k -> LongStream.builder()).add(e),
+                (l, r) -> r.forEach((k, builder) -> l.merge(k, builder, (a, b) -> {
+                    b.build().forEachOrdered(a);
+                    return a;
+                })));
+        Map<K, long[]> result = new HashMap<>(groups.size() * 4 / 3 + 1);
+        groups.forEach((k, builder) -> result.put(k, builder.build().toArray()));
+        return result;
+    }
+
+    /**
+     * 与给定的可迭代对象转换成map，key为现有元素，value为给定可迭代对象迭代的元素<br>
+     * 至少包含全部的key，如果对应位置上的value不存在，则为null
+     *
+     * @param other 可迭代对象
+     * @return {@link Map}
+     */
+    public <R> Map<Long, R> toZip(Iterable<R> other) {
+        return boxed().toZip(other);
+    }
+
+    /**
+     * hashcode
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        return stream.hashCode();
+    }
+
+    /**
+     * equals
+     *
+     * @param obj 对象
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongStream) {
+            return stream.equals(obj);
+        }
+        return false;
+    }
+
+    /**
+     * toString
+     *
+     * @return string
+     */
+    @Override
+    public String toString() {
+        return stream.toString();
+    }
+
+    /**
+     * 返回与给定断言匹配的元素的下标组成的流
+     *
+     * @param predicate 断言
+     * @return {@link LongSt}
+     */
+    private LongSt matchIdx(LongPredicate predicate) {
+        return idx((e, i, action) -> {
+            if (predicate.test(e)) {
+                action.accept(i);
+                return true;
+            }
+            return false;
+        }, true);
+    }
+
+    /**
+     * 通过带下标的拆分器包装当前流
+     *
+     * @param sink      带下标的元素处理
+     * @param filtering 是否会改变元素个数
+     * @return {@link LongSt}
+     */
+    private LongSt idx(IdxSpliterator.OfLong.Sink sink, boolean filtering) {
+        boolean parallel = isParallel();
+        return next(StreamSupport.longStream(new IdxSpliterator.OfLong(stream.spliterator(), sink, filtering), parallel)
+                .onClose(stream::close));
+    }
+
+    /**
+     * 返回中间操作之后的流，沿用当前流的线程池
+     *
+     * @param next 中间操作之后的流
+     * @return {@link LongSt}
+     */
+    private LongSt next(LongStream next) {
+        return new LongSt(next).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 沿用其他流的线程池
+     *
+     * @param pool     线程池
+     * @param ownsPool 线程池是否属于当前流水线
+     * @return {@link LongSt}
+     */
+    LongSt withPool(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        return this;
+    }
+
+    /**
+     * 执行终端操作，并行流指定了线程池时在该线程池中执行
+     *
+     * @param terminal 终端操作
+     * @return 终端操作的结果
+     */
+    private <R> R evaluate(Supplier<R> terminal) {
+        return St.evaluate(pool, ownsPool, isParallel(), terminal);
+    }
+
+    /**
+     * 返回从 size - 1 到 0 的下标组成的流，并行状态与当前流一致
+     *
+     * @param size 元素个数
+     * @return {@link LongStream}
+     */
+    private IntStream descendingIndexes(int size) {
+        int last = size - 1;
+        IntStream indexes = IntStream.range(0, size).map(i -> last - i);
+        return isParallel() ? indexes.parallel() : indexes;
+    }
+
+    /**
+     * 带下标的断言
+     */
+    @FunctionalInterface
+    public interface IdxPredicate {
+
+        /**
+         * Evaluates this predicate on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return {@code true} if the input arguments match the predicate,
+         * otherwise {@code false}
+         */
+        boolean test(long value, int index);
+    }
+
+    /**
+     * 带下标的操作
+     */
+    @FunctionalInterface
+    public interface IdxOperator {
+
+        /**
+         * Applies this operator to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the operator result
+         */
+        long apply(long value, int index);
+    }
+
+    /**
+     * 带下标的函数
+     */
+    @FunctionalInterface
+    public interface IdxFunction<R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         * @return the function result
+         */
+        R apply(long value, int index);
+    }
+
+    /**
+     * 带下标的消费者
+     */
+    @FunctionalInterface
+    public interface IdxConsumer {
+
+        /**
+         * Performs this operation on the given arguments.
+         *
+         * @param value the element
+         * @param index the index of the element
+         */
+        void accept(long value, int index);
+    }
+}
@@ -3,7 +3,9 @@ package io.github.yeluod.util;
 import io.github.yeluod.util.exception.KitException;
 import io.github.yeluod.util.function.*;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -137,6 +139,92 @@ public class Op<T> {
         }
     }
 
+    /**
+     * 返回一个失败的 {@link Op<T>}, 用于 {@link OpInt}、{@link OpLong}、{@link OpDouble} 装箱时保留异常
+     *
+     * @param exception 异常
+     * @param <T>       元素类型
+     * @return {@link Op<T>}
+     */
+    static <T> Op<T> ofFail(Exception exception) {
+        return new Op<>(Objects.requireNonNull(exception));
+    }
+
+    /**
+     * 尝试获取一个 {@link Op<T>}
+     * 失败时直接保存操作抛出的异常, 不会再包装为 {@link KitException}
+     * stackless 为 true 时, 操作中 Ser* 函数包装的 {@link KitException} 不填充堆栈, 适合只关心 {@link #isFail()} 的场景
+     *
+     * @param supplier  {@link SerSupplier}
+     * @param stackless 是否以轻量模式执行, 参见 {@link KitException#stackless}
+     * @param <T>       元素类型
+     * @return {@link Op<T>}
+     **/
+    public static <T> Op<T> ofTry(SerSupplier<T> supplier, boolean stackless) {
+        return stackless ? KitException.stackless(() -> ofTry(supplier)) : ofTry(supplier);
+    }
+
+    /**
+     * 对冲执行, 在默认执行器上执行操作, 超过 delay 仍未完成时再启动一次, 第一个成功的结果作为元素, 另一次被取消(中断)
+     * 第一次在 delay 内失败时立即启动第二次; 两次都失败时 {@link #isFail()} 为 true, {@link #getException()} 为后失败的异常
+     * 默认执行器按需创建守护线程, 不占用 {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     *
+     * @param supplier {@link SerSupplier} 幂等的操作
+     * @param delay    启动第二次的延迟
+     * @param <T>      元素类型
+     * @return {@link Op<T>}
+     * @see #ofHedged(SerSupplier, Duration, Executor)
+     */
+    public static <T> Op<T> ofHedged(SerSupplier<? extends T> supplier, Duration delay) {
+        return ofHedged(supplier, delay, Race.defaultExecutor());
+    }
+
+    /**
+     * 对冲执行, 在指定的执行器上执行操作, 超过 delay 仍未完成时再启动一次, 第一个成功的结果作为元素, 另一次被取消(中断)
+     *
+     * @param supplier {@link SerSupplier} 幂等的操作
+     * @param delay    启动第二次的延迟
+     * @param executor 执行器
+     * @param <T>      元素类型
+     * @return {@link Op<T>}
+     */
+    public static <T> Op<T> ofHedged(SerSupplier<? extends T> supplier, Duration delay, Executor executor) {
+        Objects.requireNonNull(supplier);
+        Race<T> race = new Race<>(List.of(supplier, supplier), delay.toNanos(), executor);
+        return ofTry(race::call);
+    }
+
+    /**
+     * 在默认执行器上同时执行全部操作, 第一个成功的结果作为元素, 其余操作被取消(中断)
+     * 全部失败时 {@link #isFail()} 为 true, {@link #getException()} 为最后失败的异常
+     *
+     * @param suppliers {@link SerSupplier} 操作
+     * @param <T>       元素类型
+     * @return {@link Op<T>}
+     * @see #firstSuccessOf(Executor, SerSupplier[])
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Op<T> firstSuccessOf(SerSupplier<? extends T>... suppliers) {
+        return firstSuccessOf(Race.defaultExecutor(), suppliers);
+    }
+
+    /**
+     * 在指定的执行器上同时执行全部操作, 第一个成功的结果作为元素, 其余操作被取消(中断)
+     *
+     * @param executor  执行器
+     * @param suppliers {@link SerSupplier} 操作
+     * @param <T>       元素类型
+     * @return {@link Op<T>}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Op<T> firstSuccessOf(Executor executor, SerSupplier<? extends T>... suppliers) {
+        // List.of 复制数组且只读取元素, 不会造成堆污染
+        Race<T> race = new Race<>(List.of(suppliers), 0L, executor);
+        return ofTry(race::call);
+    }
+
     /**
      * 返回元素,取不到则为 null
      * 注意！！！此处和{@link Optional#get()}
@@ -0,0 +1,267 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+import io.github.yeluod.util.function.SerDoublePredicate;
+import io.github.yeluod.util.function.SerDoubleSupplier;
+import io.github.yeluod.util.function.SerDoubleUnaryOperator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+/**
+ * {@link Op} 的 double 版本, 元素不装箱
+ * 与 {@link Op} 的区别为 double 没有"空"值, 只有不存在时才为空
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@SuppressWarnings("unused")
+public final class OpDouble {
+
+    /**
+     * 一个空的实例
+     **/
+    private static final OpDouble EMPTY = new OpDouble(false, 0, null);
+
+    /**
+     * 元素是否存在
+     */
+    private final boolean present;
+
+    /**
+     * 元素
+     */
+    private final double value;
+
+    /**
+     * 异常
+     */
+    private final Exception exception;
+
+    /**
+     * 构造函数
+     **/
+    private OpDouble(boolean present, double value, Exception exception) {
+        this.present = present;
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * 返回一个空的 {@link OpDouble}
+     *
+     * @return {@link OpDouble}
+     */
+    public static OpDouble empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 返回一个元素存在的 {@link OpDouble}
+     *
+     * @param value {@code double}
+     * @return {@link OpDouble}
+     **/
+    public static OpDouble of(double value) {
+        return new OpDouble(true, value, null);
+    }
+
+    /**
+     * 返回一个元素可能为空的 {@link OpDouble}
+     *
+     * @param value {@link Double}
+     * @return {@link OpDouble}
+     **/
+    public static OpDouble ofNullable(Double value) {
+        return Objects.isNull(value) ? EMPTY : of(value);
+    }
+
+    /**
+     * 尝试获取一个 {@link OpDouble}
+     *
+     * @param supplier {@link SerDoubleSupplier}
+     * @return {@link OpDouble}
+     **/
+    public static OpDouble ofTry(SerDoubleSupplier supplier) {
+        try {
+            return of(supplier.gettingAsDouble());
+        } catch (Exception e) {
+            return new OpDouble(false, 0, e);
+        }
+    }
+
+    /**
+     * 尝试获取一个 {@link OpDouble}
+     * stackless 为 true 时, 操作中 Ser* 函数包装的 {@link KitException} 不填充堆栈
+     *
+     * @param supplier  {@link SerDoubleSupplier}
+     * @param stackless 是否以轻量模式执行, 参见 {@link KitException#stackless}
+     * @return {@link OpDouble}
+     **/
+    public static OpDouble ofTry(SerDoubleSupplier supplier, boolean stackless) {
+        return stackless ? KitException.stackless(() -> ofTry(supplier)) : ofTry(supplier);
+    }
+
+    /**
+     * 返回元素
+     *
+     * @return {@code double}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public double getAsDouble() {
+        return orElseThrow();
+    }
+
+    /**
+     * 获取异常
+     * 当调用 {@link #ofTry}时,异常信息不会抛出,而是保存,调用此方法获取抛出的异常
+     *
+     * @return {@link Exception}
+     */
+    public Exception getException() {
+        return this.exception;
+    }
+
+    /**
+     * 是否失败
+     * 当调用 {@link #ofTry}时,抛出异常则表示失败
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isFail() {
+        return Objects.nonNull(this.exception);
+    }
+
+    /**
+     * 判断元素是否不存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return !this.present;
+    }
+
+    /**
+     * 判断元素是否存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isPresent() {
+        return this.present;
+    }
+
+    /**
+     * 判断元素存在并且与给定的条件是否满足
+     * 如果满足条件则返回本身
+     * 不满足条件时返回一个空的{@link OpDouble}
+     *
+     * @param predicate {@link SerDoublePredicate} 给定的条件
+     * @return {@link OpDouble}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpDouble filter(SerDoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return (isEmpty() || predicate.test(this.value)) ? this : EMPTY;
+    }
+
+    /**
+     * 如果元素存在,就执行传入的操作并返回一个包含了该操作返回元素的{@link OpDouble}
+     * 如果不存在,返回一个空的{@link OpDouble}
+     *
+     * @param mapper {@link SerDoubleUnaryOperator} 元素存在时执行的操作
+     * @return {@link OpDouble}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpDouble map(SerDoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isEmpty() ? EMPTY : of(mapper.applyAsDouble(this.value));
+    }
+
+    /**
+     * 转换为装箱的 {@link Op}, 失败时保留异常
+     *
+     * @return {@link Op}
+     */
+    public Op<Double> boxed() {
+        if (isFail()) {
+            return Op.ofFail(this.exception);
+        }
+        return isEmpty() ? Op.ofNullable(null) : Op.of(this.value);
+    }
+
+    /**
+     * 如果元素存在
+     * 则返回该元素,否则返回传入的元素
+     *
+     * @param other 元素为空时返回的元素
+     * @return {@code double}
+     */
+    public double orElse(double other) {
+        return this.present ? this.value : other;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则返回传入的操作执行后的返回元素
+     *
+     * @param supplier {@link SerDoubleSupplier} 元素不存在时需要执行的操作
+     * @return {@code double}
+     */
+    public double orElseGet(SerDoubleSupplier supplier) {
+        return this.present ? this.value : supplier.getAsDouble();
+    }
+
+    /**
+     * 异常则返回另一个可选元素
+     *
+     * @param other {@code double} 可选元素
+     * @return 如果未发生异常, 则返回该元素, 否则返回传入的元素
+     */
+    public double failOrElse(double other) {
+        return isFail() ? other : this.value;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则抛出 {@link NoSuchElementException}
+     *
+     * @return {@code double}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public double orElseThrow() {
+        if (!this.present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return this.value;
+    }
+
+    /**
+     * 转换为 {@link OptionalDouble}对象
+     *
+     * @return {@link OptionalDouble}对象
+     */
+    public OptionalDouble toOptional() {
+        return this.present ? OptionalDouble.of(this.value) : OptionalDouble.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final OpDouble other)) {
+            return false;
+        }
+        return this.present == other.present && Double.compare(this.value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.present ? Double.hashCode(this.value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.present ? String.format("OpDouble[%s]", this.value) : "OpDouble.empty";
+    }
+
+}
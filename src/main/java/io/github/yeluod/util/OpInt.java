@@ -0,0 +1,267 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+import io.github.yeluod.util.function.SerIntPredicate;
+import io.github.yeluod.util.function.SerIntSupplier;
+import io.github.yeluod.util.function.SerIntUnaryOperator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * {@link Op} 的 int 版本, 元素不装箱
+ * 与 {@link Op} 的区别为 int 没有"空"值, 只有不存在时才为空
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@SuppressWarnings("unused")
+public final class OpInt {
+
+    /**
+     * 一个空的实例
+     **/
+    private static final OpInt EMPTY = new OpInt(false, 0, null);
+
+    /**
+     * 元素是否存在
+     */
+    private final boolean present;
+
+    /**
+     * 元素
+     */
+    private final int value;
+
+    /**
+     * 异常
+     */
+    private final Exception exception;
+
+    /**
+     * 构造函数
+     **/
+    private OpInt(boolean present, int value, Exception exception) {
+        this.present = present;
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * 返回一个空的 {@link OpInt}
+     *
+     * @return {@link OpInt}
+     */
+    public static OpInt empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 返回一个元素存在的 {@link OpInt}
+     *
+     * @param value {@code int}
+     * @return {@link OpInt}
+     **/
+    public static OpInt of(int value) {
+        return new OpInt(true, value, null);
+    }
+
+    /**
+     * 返回一个元素可能为空的 {@link OpInt}
+     *
+     * @param value {@link Integer}
+     * @return {@link OpInt}
+     **/
+    public static OpInt ofNullable(Integer value) {
+        return Objects.isNull(value) ? EMPTY : of(value);
+    }
+
+    /**
+     * 尝试获取一个 {@link OpInt}
+     *
+     * @param supplier {@link SerIntSupplier}
+     * @return {@link OpInt}
+     **/
+    public static OpInt ofTry(SerIntSupplier supplier) {
+        try {
+            return of(supplier.gettingAsInt());
+        } catch (Exception e) {
+            return new OpInt(false, 0, e);
+        }
+    }
+
+    /**
+     * 尝试获取一个 {@link OpInt}
+     * stackless 为 true 时, 操作中 Ser* 函数包装的 {@link KitException} 不填充堆栈
+     *
+     * @param supplier  {@link SerIntSupplier}
+     * @param stackless 是否以轻量模式执行, 参见 {@link KitException#stackless}
+     * @return {@link OpInt}
+     **/
+    public static OpInt ofTry(SerIntSupplier supplier, boolean stackless) {
+        return stackless ? KitException.stackless(() -> ofTry(supplier)) : ofTry(supplier);
+    }
+
+    /**
+     * 返回元素
+     *
+     * @return {@code int}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public int getAsInt() {
+        return orElseThrow();
+    }
+
+    /**
+     * 获取异常
+     * 当调用 {@link #ofTry}时,异常信息不会抛出,而是保存,调用此方法获取抛出的异常
+     *
+     * @return {@link Exception}
+     */
+    public Exception getException() {
+        return this.exception;
+    }
+
+    /**
+     * 是否失败
+     * 当调用 {@link #ofTry}时,抛出异常则表示失败
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isFail() {
+        return Objects.nonNull(this.exception);
+    }
+
+    /**
+     * 判断元素是否不存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return !this.present;
+    }
+
+    /**
+     * 判断元素是否存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isPresent() {
+        return this.present;
+    }
+
+    /**
+     * 判断元素存在并且与给定的条件是否满足
+     * 如果满足条件则返回本身
+     * 不满足条件时返回一个空的{@link OpInt}
+     *
+     * @param predicate {@link SerIntPredicate} 给定的条件
+     * @return {@link OpInt}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpInt filter(SerIntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return (isEmpty() || predicate.test(this.value)) ? this : EMPTY;
+    }
+
+    /**
+     * 如果元素存在,就执行传入的操作并返回一个包含了该操作返回元素的{@link OpInt}
+     * 如果不存在,返回一个空的{@link OpInt}
+     *
+     * @param mapper {@link SerIntUnaryOperator} 元素存在时执行的操作
+     * @return {@link OpInt}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpInt map(SerIntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isEmpty() ? EMPTY : of(mapper.applyAsInt(this.value));
+    }
+
+    /**
+     * 转换为装箱的 {@link Op}, 失败时保留异常
+     *
+     * @return {@link Op}
+     */
+    public Op<Integer> boxed() {
+        if (isFail()) {
+            return Op.ofFail(this.exception);
+        }
+        return isEmpty() ? Op.ofNullable(null) : Op.of(this.value);
+    }
+
+    /**
+     * 如果元素存在
+     * 则返回该元素,否则返回传入的元素
+     *
+     * @param other 元素为空时返回的元素
+     * @return {@code int}
+     */
+    public int orElse(int other) {
+        return this.present ? this.value : other;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则返回传入的操作执行后的返回元素
+     *
+     * @param supplier {@link SerIntSupplier} 元素不存在时需要执行的操作
+     * @return {@code int}
+     */
+    public int orElseGet(SerIntSupplier supplier) {
+        return this.present ? this.value : supplier.getAsInt();
+    }
+
+    /**
+     * 异常则返回另一个可选元素
+     *
+     * @param other {@code int} 可选元素
+     * @return 如果未发生异常, 则返回该元素, 否则返回传入的元素
+     */
+    public int failOrElse(int other) {
+        return isFail() ? other : this.value;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则抛出 {@link NoSuchElementException}
+     *
+     * @return {@code int}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public int orElseThrow() {
+        if (!this.present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return this.value;
+    }
+
+    /**
+     * 转换为 {@link OptionalInt}对象
+     *
+     * @return {@link OptionalInt}对象
+     */
+    public OptionalInt toOptional() {
+        return this.present ? OptionalInt.of(this.value) : OptionalInt.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final OpInt other)) {
+            return false;
+        }
+        return this.present == other.present && Integer.compare(this.value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.present ? Integer.hashCode(this.value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.present ? String.format("OpInt[%s]", this.value) : "OpInt.empty";
+    }
+
+}
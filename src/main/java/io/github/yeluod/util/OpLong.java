@@ -0,0 +1,267 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+import io.github.yeluod.util.function.SerLongPredicate;
+import io.github.yeluod.util.function.SerLongSupplier;
+import io.github.yeluod.util.function.SerLongUnaryOperator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * {@link Op} 的 long 版本, 元素不装箱
+ * 与 {@link Op} 的区别为 long 没有"空"值, 只有不存在时才为空
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@SuppressWarnings("unused")
+public final class OpLong {
+
+    /**
+     * 一个空的实例
+     **/
+    private static final OpLong EMPTY = new OpLong(false, 0, null);
+
+    /**
+     * 元素是否存在
+     */
+    private final boolean present;
+
+    /**
+     * 元素
+     */
+    private final long value;
+
+    /**
+     * 异常
+     */
+    private final Exception exception;
+
+    /**
+     * 构造函数
+     **/
+    private OpLong(boolean present, long value, Exception exception) {
+        this.present = present;
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * 返回一个空的 {@link OpLong}
+     *
+     * @return {@link OpLong}
+     */
+    public static OpLong empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 返回一个元素存在的 {@link OpLong}
+     *
+     * @param value {@code long}
+     * @return {@link OpLong}
+     **/
+    public static OpLong of(long value) {
+        return new OpLong(true, value, null);
+    }
+
+    /**
+     * 返回一个元素可能为空的 {@link OpLong}
+     *
+     * @param value {@link Long}
+     * @return {@link OpLong}
+     **/
+    public static OpLong ofNullable(Long value) {
+        return Objects.isNull(value) ? EMPTY : of(value);
+    }
+
+    /**
+     * 尝试获取一个 {@link OpLong}
+     *
+     * @param supplier {@link SerLongSupplier}
+     * @return {@link OpLong}
+     **/
+    public static OpLong ofTry(SerLongSupplier supplier) {
+        try {
+            return of(supplier.gettingAsLong());
+        } catch (Exception e) {
+            return new OpLong(false, 0, e);
+        }
+    }
+
+    /**
+     * 尝试获取一个 {@link OpLong}
+     * stackless 为 true 时, 操作中 Ser* 函数包装的 {@link KitException} 不填充堆栈
+     *
+     * @param supplier  {@link SerLongSupplier}
+     * @param stackless 是否以轻量模式执行, 参见 {@link KitException#stackless}
+     * @return {@link OpLong}
+     **/
+    public static OpLong ofTry(SerLongSupplier supplier, boolean stackless) {
+        return stackless ? KitException.stackless(() -> ofTry(supplier)) : ofTry(supplier);
+    }
+
+    /**
+     * 返回元素
+     *
+     * @return {@code long}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public long getAsLong() {
+        return orElseThrow();
+    }
+
+    /**
+     * 获取异常
+     * 当调用 {@link #ofTry}时,异常信息不会抛出,而是保存,调用此方法获取抛出的异常
+     *
+     * @return {@link Exception}
+     */
+    public Exception getException() {
+        return this.exception;
+    }
+
+    /**
+     * 是否失败
+     * 当调用 {@link #ofTry}时,抛出异常则表示失败
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isFail() {
+        return Objects.nonNull(this.exception);
+    }
+
+    /**
+     * 判断元素是否不存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isEmpty() {
+        return !this.present;
+    }
+
+    /**
+     * 判断元素是否存在
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isPresent() {
+        return this.present;
+    }
+
+    /**
+     * 判断元素存在并且与给定的条件是否满足
+     * 如果满足条件则返回本身
+     * 不满足条件时返回一个空的{@link OpLong}
+     *
+     * @param predicate {@link SerLongPredicate} 给定的条件
+     * @return {@link OpLong}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpLong filter(SerLongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        return (isEmpty() || predicate.test(this.value)) ? this : EMPTY;
+    }
+
+    /**
+     * 如果元素存在,就执行传入的操作并返回一个包含了该操作返回元素的{@link OpLong}
+     * 如果不存在,返回一个空的{@link OpLong}
+     *
+     * @param mapper {@link SerLongUnaryOperator} 元素存在时执行的操作
+     * @return {@link OpLong}
+     * @throws NullPointerException 如果给定的操作为null, 抛出 {@link NullPointerException}
+     */
+    public OpLong map(SerLongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return isEmpty() ? EMPTY : of(mapper.applyAsLong(this.value));
+    }
+
+    /**
+     * 转换为装箱的 {@link Op}, 失败时保留异常
+     *
+     * @return {@link Op}
+     */
+    public Op<Long> boxed() {
+        if (isFail()) {
+            return Op.ofFail(this.exception);
+        }
+        return isEmpty() ? Op.ofNullable(null) : Op.of(this.value);
+    }
+
+    /**
+     * 如果元素存在
+     * 则返回该元素,否则返回传入的元素
+     *
+     * @param other 元素为空时返回的元素
+     * @return {@code long}
+     */
+    public long orElse(long other) {
+        return this.present ? this.value : other;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则返回传入的操作执行后的返回元素
+     *
+     * @param supplier {@link SerLongSupplier} 元素不存在时需要执行的操作
+     * @return {@code long}
+     */
+    public long orElseGet(SerLongSupplier supplier) {
+        return this.present ? this.value : supplier.getAsLong();
+    }
+
+    /**
+     * 异常则返回另一个可选元素
+     *
+     * @param other {@code long} 可选元素
+     * @return 如果未发生异常, 则返回该元素, 否则返回传入的元素
+     */
+    public long failOrElse(long other) {
+        return isFail() ? other : this.value;
+    }
+
+    /**
+     * 如果元素存在,则返回该元素,否则抛出 {@link NoSuchElementException}
+     *
+     * @return {@code long}
+     * @throws NoSuchElementException 如果元素不存在则抛出该异常
+     */
+    public long orElseThrow() {
+        if (!this.present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return this.value;
+    }
+
+    /**
+     * 转换为 {@link OptionalLong}对象
+     *
+     * @return {@link OptionalLong}对象
+     */
+    public OptionalLong toOptional() {
+        return this.present ? OptionalLong.of(this.value) : OptionalLong.empty();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final OpLong other)) {
+            return false;
+        }
+        return this.present == other.present && Long.compare(this.value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.present ? Long.hashCode(this.value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.present ? String.format("OpLong[%s]", this.value) : "OpLong.empty";
+    }
+
+}
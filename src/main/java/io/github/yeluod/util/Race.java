@@ -0,0 +1,120 @@
+package io.github.yeluod.util;
+
+import io.github.yeluod.util.exception.KitException;
+import io.github.yeluod.util.function.SerSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 竞速执行
+ * 按顺序启动各个尝试, 每个尝试在前一个启动后经过 delay 仍没有任何结果时启动, 前一个失败时立即启动
+ * 第一个成功的结果作为返回值, 其余尝试被取消(中断); 全部失败时抛出最后一个失败的异常
+ * delay 为 0 时同时启动全部尝试; 等待时被中断则取消全部尝试, 并保留中断状态
+ *
+ * @author W.d
+ * @since 2026/10/17 00:20
+ **/
+final class Race<T> {
+
+    private final List<? extends SerSupplier<? extends T>> attempts;
+
+    private final long delayNanos;
+
+    private final Executor executor;
+
+    private final List<Future<T>> started = new ArrayList<>();
+
+    private final BlockingQueue<Future<T>> completed = new LinkedBlockingQueue<>();
+
+    Race(List<? extends SerSupplier<? extends T>> attempts, long delayNanos, Executor executor) {
+        if (attempts.isEmpty()) {
+            throw new IllegalArgumentException("attempts must not be empty");
+        }
+        if (delayNanos < 0) {
+            throw new IllegalArgumentException("delay must not be negative: " + delayNanos);
+        }
+        this.attempts = attempts;
+        this.delayNanos = delayNanos;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * 默认执行器, 按需创建守护线程, 不占用 {@link ForkJoinPool#commonPool()}
+     *
+     * @return {@link Executor}
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * 执行并等待第一个成功的结果
+     *
+     * @return 第一个成功的结果
+     * @throws Exception 全部失败时为最后一个失败的异常, 等待时被中断为 {@link InterruptedException}
+     */
+    T call() throws Exception {
+        try {
+            start();
+            int finished = 0;
+            Throwable failure = null;
+            while (true) {
+                Future<T> done = started.size() < attempts.size()
+                        ? completed.poll(delayNanos, TimeUnit.NANOSECONDS)
+                        : completed.take();
+                if (Objects.isNull(done)) {
+                    start();
+                    continue;
+                }
+                finished++;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                }
+                if (started.size() < attempts.size()) {
+                    start();
+                } else if (finished == started.size()) {
+                    if (failure instanceof Error error) {
+                        throw error;
+                    }
+                    throw failure instanceof Exception exception ? exception : new KitException(failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            started.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void start() {
+        SerSupplier<? extends T> supplier = attempts.get(started.size());
+        FutureTask<T> task = new FutureTask<>(supplier::getting) {
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    completed.add(this);
+                }
+            }
+        };
+        started.add(task);
+        executor.execute(task);
+    }
+
+    private static final class DefaultExecutor {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private static final Executor INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "Op-race-" + SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.yeluod.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * 反向拆分器
+ * 按下标从后往前惰性遍历可随机访问的数据源, 不复制元素, 并且可以在并行流中拆分
+ *
+ * @author W.d
+ * @since 2026/10/16 11:05
+ **/
+final class ReverseSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * 按下标获取元素
+     */
+    private final IntFunction<? extends T> getter;
+
+    /**
+     * 最小下标(包含)
+     */
+    private final int origin;
+
+    /**
+     * 最大下标(不包含), 下一个元素的下标为 fence - 1
+     */
+    private int fence;
+
+    ReverseSpliterator(IntFunction<? extends T> getter, int size) {
+        this(getter, 0, size);
+    }
+
+    private ReverseSpliterator(IntFunction<? extends T> getter, int origin, int fence) {
+        this.getter = Objects.requireNonNull(getter);
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (fence > origin) {
+            action.accept(getter.apply(--fence));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int i = fence;
+        fence = origin;
+        while (i > origin) {
+            action.accept(getter.apply(--i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (fence - origin < 2) {
+            return null;
+        }
+        // 反向遍历时, 下标较大的一半位于前面
+        int mid = (origin + fence) >>> 1;
+        ReverseSpliterator<T> prefix = new ReverseSpliterator<>(getter, mid, fence);
+        fence = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (long) fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.yeluod.util;
+
+import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 字符串拆分器
+ * 遍历时才查找下一个分隔符, 结果与 {@link String#split(String)} 一致: 没有匹配时返回原字符串, 开头的零宽匹配不产生空串, 末尾的空串被丢弃
+ * 不含正则元字符的分隔符直接按字面查找, 不经过正则; 其他分隔符编译后缓存
+ * 输出视图时每一段为原字符串的 {@link CharBuffer} 视图, 不复制字符
+ *
+ * @author W.d
+ * @since 2026/10/16 22:10
+ **/
+final class SplitSpliterator extends Spliterators.AbstractSpliterator<CharSequence> {
+
+    private static final String REGEX_META = ".$|()[{^?*+\\";
+
+    /**
+     * 缓存的正则个数上限, 超过时清空
+     */
+    private static final int MAX_CACHED_PATTERNS = 256;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private final CharSequence input;
+
+    private final boolean view;
+
+    /**
+     * 字面分隔符, 为 null 时使用 {@link #matcher}
+     */
+    private final String literal;
+
+    private final Matcher matcher;
+
+    /**
+     * 下一段的起始位置
+     */
+    private int index;
+
+    private boolean matched;
+
+    private boolean finished;
+
+    /**
+     * 尚未输出的连续空串个数, 之后出现非空的一段时才输出, 否则作为末尾的空串丢弃
+     */
+    private int pendingEmpty;
+
+    /**
+     * 等待空串输出完毕后再输出的一段, [start, end)
+     */
+    private int stashStart = -1;
+
+    private int stashEnd;
+
+    private int pieceStart;
+
+    private int pieceEnd;
+
+    SplitSpliterator(CharSequence input, String regex, boolean view) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.input = Objects.requireNonNull(input);
+        this.view = view;
+        this.literal = literal(regex);
+        this.matcher = Objects.isNull(literal) ? pattern(regex).matcher(input) : null;
+    }
+
+    /**
+     * 返回分隔符的字面值, 分隔符包含正则语义时返回 null
+     *
+     * @param regex 正则
+     * @return 字面值
+     */
+    static String literal(String regex) {
+        int length = regex.length();
+        if (length == 2 && regex.charAt(0) == '\\') {
+            char c = regex.charAt(1);
+            return Character.isLetterOrDigit(c) || Character.isHighSurrogate(c) ? null : String.valueOf(c);
+        }
+        if (length == 0) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (REGEX_META.indexOf(regex.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return regex;
+    }
+
+    /**
+     * 获取编译后的正则, 编译结果会被缓存
+     *
+     * @param regex 正则
+     * @return {@link Pattern}
+     */
+    static Pattern pattern(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (Objects.isNull(pattern)) {
+            if (PATTERNS.size() >= MAX_CACHED_PATTERNS) {
+                PATTERNS.clear();
+            }
+            pattern = PATTERNS.computeIfAbsent(regex, Pattern::compile);
+        }
+        return pattern;
+    }
+
+    /**
+     * 是否为 null 或者只包含空白字符(与 {@link String#trim()} 的判断一致)
+     *
+     * @param sequence 字符序列
+     * @return {@link Boolean}
+     */
+    static boolean isBlank(CharSequence sequence) {
+        if (Objects.isNull(sequence)) {
+            return true;
+        }
+        for (int i = 0, length = sequence.length(); i < length; i++) {
+            if (sequence.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CharSequence> action) {
+        Objects.requireNonNull(action);
+        if (pendingEmpty > 0) {
+            pendingEmpty--;
+            action.accept(slice(0, 0));
+            return true;
+        }
+        if (stashStart >= 0) {
+            int start = stashStart;
+            stashStart = -1;
+            action.accept(slice(start, stashEnd));
+            return true;
+        }
+        while (nextPiece()) {
+            if (pieceStart == pieceEnd && !(finished && !matched)) {
+                pendingEmpty++;
+                continue;
+            }
+            if (pendingEmpty > 0) {
+                stashStart = pieceStart;
+                stashEnd = pieceEnd;
+                pendingEmpty--;
+                action.accept(slice(0, 0));
+                return true;
+            }
+            action.accept(slice(pieceStart, pieceEnd));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 查找下一段
+     *
+     * @return 是否还有下一段
+     */
+    private boolean nextPiece() {
+        if (finished) {
+            return false;
+        }
+        while (true) {
+            int start;
+            int end;
+            if (Objects.nonNull(literal)) {
+                start = indexOf(literal, index);
+                end = start + literal.length();
+            } else if (matcher.find()) {
+                start = matcher.start();
+                end = matcher.end();
+            } else {
+                start = -1;
+                end = -1;
+            }
+            if (start < 0) {
+                finished = true;
+                pieceStart = index;
+                pieceEnd = input.length();
+                return true;
+            }
+            if (index == 0 && start == 0 && start == end) {
+                // 开头的零宽匹配不产生空串
+                continue;
+            }
+            matched = true;
+            pieceStart = index;
+            pieceEnd = start;
+            index = end;
+            return true;
+        }
+    }
+
+    private int indexOf(String delimiter, int from) {
+        if (input instanceof String string) {
+            return delimiter.length() == 1 ? string.indexOf(delimiter.charAt(0), from) : string.indexOf(delimiter, from);
+        }
+        char first = delimiter.charAt(0);
+        for (int i = from, max = input.length() - delimiter.length(); i <= max; i++) {
+            if (input.charAt(i) == first && regionMatches(i, delimiter)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(int offset, String delimiter) {
+        for (int i = 1; i < delimiter.length(); i++) {
+            if (input.charAt(offset + i) != delimiter.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CharSequence slice(int start, int end) {
+        return view ? CharBuffer.wrap(input, start, end) : input.subSequence(start, end).toString();
+    }
+}
@@ -1,10 +1,22 @@
 package io.github.yeluod.util;
 
+import io.github.yeluod.util.exception.KitException;
 import io.github.yeluod.util.function.SerFunction;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -22,10 +34,62 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     private static final int NOT_FOUND_INDEX = -1;
 
+    /**
+     * 代表 null 的 key, 用于不支持 null 的并发容器
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * 内部的流, 只有 St 本身的实例会融合执行, 此时为 null; 子类的实例从不融合执行, 该字段始终有效
+     */
     protected Stream<T> stream;
 
+    /**
+     * 可以反向遍历的数据源(RandomAccess 的 {@link List}、数组或 {@link Deque})
+     * 仅当流直接由这些数据源创建且未经过中间操作时存在, 否则为 null
+     * {@link LinkedList} 同时是 {@link List} 和 {@link Deque}, 按下标访问前需要判断 {@link RandomAccess}
+     */
+    private Collection<T> source;
+
+    /**
+     * 是否为可变模式, 可变模式下中间操作不会创建新的 {@link St}, 而是替换内部的流并返回本身
+     */
+    private boolean mutable;
+
+    /**
+     * 融合执行的流水线, 数据源为小型随机访问集合或数组的串行流会先记录中间操作, 终端操作时融合为一个循环执行
+     * 存在时 {@link #stream} 为 null, 需要 {@link Stream} 时通过 {@link #stream()} 构建
+     * 只会出现在 St 本身的实例上, 子类读取的 {@link #stream} 字段不会为 null
+     */
+    private FusedPipeline<T> fused;
+
+    /**
+     * 并行流执行终端操作的线程池, 为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * 是否调用过 {@link #unordered()} 且之后没有重新排序, 并行流无序时分组等操作使用并发容器收集
+     */
+    private boolean unordered;
+
+    /**
+     * {@link #pool} 是否由 {@link #parallel(int)} 为当前流水线创建, 是则在终端操作结束或关闭流时关闭
+     */
+    private boolean ownsPool;
+
     public St(Stream<T> stream) {
+        this(stream, null);
+    }
+
+    private St(Stream<T> stream, Collection<T> source) {
         this.stream = stream;
+        this.source = source;
+    }
+
+    private St(FusedPipeline<T> fused, Collection<T> source) {
+        this.fused = fused;
+        this.source = source;
     }
 
     /**
@@ -88,7 +152,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
     @SafeVarargs
     @SuppressWarnings("varargs")
     public static <T> St<T> of(T... values) {
-        return (Objects.isNull(values) || values.length == 0) ? empty() : new St<>(Stream.of(values));
+        if (Objects.isNull(values) || values.length == 0) {
+            return empty();
+        }
+        return ofList(Arrays.asList(values), false);
     }
 
     /**
@@ -109,13 +176,80 @@ public class St<T> implements Stream<T>, Iterable<T> {
      * @return {@link St}
      */
     public static <T> St<T> of(Iterable<T> iterable, boolean parallel) {
-        return Op.of(iterable)
-                .map(Iterable::spliterator)
-                .map(spliterator -> StreamSupport.stream(spliterator, parallel))
-                .map(St::new)
+        if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+            return ofList(list, parallel);
+        }
+        return Op.ofNullable(iterable)
+                .map(it -> new St<>(StreamSupport.stream(it.spliterator(), parallel), reversible(it)))
                 .orElseGet(St::empty);
     }
 
+    /**
+     * 通过可随机访问的{@link List}创建流，元素个数较少的串行流会融合执行
+     *
+     * @param list     {@link List}
+     * @param parallel 是否并行
+     * @return {@link St}
+     */
+    private static <T> St<T> ofList(List<T> list, boolean parallel) {
+        FusedPipeline<T> fused = parallel ? null : FusedPipeline.of(list);
+        if (Objects.nonNull(fused)) {
+            return new St<>(fused, list);
+        }
+        return new St<>(StreamSupport.stream(list.spliterator(), parallel), list);
+    }
+
+    /**
+     * 如果可迭代对象支持反向遍历, 则返回其本身, 否则返回 null
+     *
+     * @param iterable {@link Iterable}
+     * @return {@link Collection}
+     */
+    private static <T> Collection<T> reversible(Iterable<T> iterable) {
+        if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+            return list;
+        }
+        if (iterable instanceof Deque<T> deque) {
+            return deque;
+        }
+        return null;
+    }
+
+    /**
+     * 返回可变模式的流，中间操作会替换内部的流并返回本身，不会为每个中间操作创建新的 {@link St}
+     * 适用于中间操作较多的短生命周期流，中间操作之后不要再使用之前的引用
+     *
+     * @param stream {@link Stream}
+     * @return {@link St}
+     */
+    public static <T> St<T> mutable(Stream<T> stream) {
+        return of(stream).toMutable();
+    }
+
+    /**
+     * 通过实现了{@link Iterable}接口的对象创建可变模式的流
+     *
+     * @param iterable 实现了{@link Iterable}接口的对象
+     * @return {@link St}
+     * @see #mutable(Stream)
+     */
+    public static <T> St<T> mutable(Iterable<T> iterable) {
+        return of(iterable).toMutable();
+    }
+
+    /**
+     * 返回包含指定元素的可变模式的流
+     *
+     * @param values {@link T...} 元素数组
+     * @return {@link St}
+     * @see #mutable(Stream)
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> St<T> mutable(T... values) {
+        return of(values).toMutable();
+    }
+
     /**
      * 返回无限有序流
      * 该流由 初始值 以及执行 迭代函数 进行迭代获取到元素
@@ -213,14 +347,98 @@ public class St<T> implements Stream<T>, Iterable<T> {
     }
 
     /**
-     * 拆分字符串，转换为串行流
+     * 拆分字符串，转换为串行流，结果与 {@link String#split(String)} 一致，字符串为空白时返回空流
+     * 遍历时才查找下一个分隔符；不含正则元字符的分隔符按字面查找，其他正则编译后缓存
      *
      * @param str   字符串
      * @param regex 正则
      * @return {@link St<String>}
      */
+    @SuppressWarnings("unchecked")
     public static St<String> split(CharSequence str, String regex) {
-        return Op.ofNullable(str).map(CharSequence::toString).map(s -> s.split(regex)).map(St::of).orElseGet(St::empty);
+        return (St<String>) (St<?>) split(str, regex, false);
+    }
+
+    /**
+     * 拆分字符串，每一段为原字符串的视图，不复制字符
+     *
+     * @param str   字符串
+     * @param regex 正则
+     * @return {@link St<CharSequence>}
+     * @see #split(CharSequence, String)
+     */
+    public static St<CharSequence> splitView(CharSequence str, String regex) {
+        return split(str, regex, true);
+    }
+
+    private static St<CharSequence> split(CharSequence str, String regex, boolean view) {
+        Objects.requireNonNull(regex);
+        if (SplitSpliterator.isBlank(str)) {
+            return empty();
+        }
+        return new St<>(StreamSupport.stream(new SplitSpliterator(str, regex, view), false));
+    }
+
+    /**
+     * 按行读取 UTF-8 编码的文件
+     *
+     * @param path 文件路径
+     * @return {@link St}
+     * @see #lines(Path, Charset)
+     */
+    public static St<String> lines(Path path) {
+        return lines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 按行读取文件，文件通过内存映射读取，读取到每一行时才解码
+     * 并行流按换行符的位置拆分，每个线程处理文件中连续的一段，行以 \n 或 \r\n 结尾
+     * 字符集不是 UTF-8、ISO-8859-1、US-ASCII 时使用 {@link Files#lines(Path, Charset)}
+     *
+     * @param path    文件路径
+     * @param charset 字符集
+     * @return {@link St}
+     */
+    @SuppressWarnings("unchecked")
+    public static St<String> lines(Path path, Charset charset) {
+        return (St<String>) (St<?>) lines(path, charset, false);
+    }
+
+    /**
+     * 按行读取文件，输出行的视图而不是 {@link String}
+     * 纯 ASCII 的行(ISO-8859-1 时为所有行)直接引用映射的字节，不复制也不解码，其他行解码为 {@link String}
+     * 视图在文件被修改后内容会随之变化，需要保留时调用 {@link CharSequence#toString()}
+     *
+     * @param path    文件路径
+     * @param charset 字符集
+     * @return {@link St}
+     * @see #lines(Path, Charset)
+     */
+    public static St<CharSequence> linesView(Path path, Charset charset) {
+        return lines(path, charset, true);
+    }
+
+    private static St<CharSequence> lines(Path path, Charset charset, boolean view) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(charset);
+        try {
+            if (!LinesSpliterator.supports(charset)) {
+                return new St<>(Files.lines(path, charset).map(Function.identity()));
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + (1L << LinesSpliterator.SEGMENT_SHIFT) - 1)
+                                                                          >>> LinesSpliterator.SEGMENT_SHIFT)];
+                for (int i = 0; i < segments.length; i++) {
+                    long position = (long) i << LinesSpliterator.SEGMENT_SHIFT;
+                    long length = Math.min(1L << LinesSpliterator.SEGMENT_SHIFT, size - position);
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                }
+                return new St<>(StreamSupport.stream(new LinesSpliterator(segments, charset, view, 0L, size), false));
+            }
+        } catch (IOException e) {
+            throw new KitException(e);
+        }
     }
 
     /**
@@ -231,7 +449,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> filter(Predicate<? super T> predicate) {
-        return new St<>(stream.filter(predicate));
+        if (Objects.nonNull(fused)) {
+            return next(fused.filter(predicate));
+        }
+        return next(stream.filter(predicate));
     }
 
     /**
@@ -247,19 +468,21 @@ public class St<T> implements Stream<T>, Iterable<T> {
     }
 
     /**
-     * 过滤元素，返回与指定断言匹配的元素组成的流，断言带下标，并行流时下标永远为-1
+     * 过滤元素，返回与指定断言匹配的元素组成的流，断言带下标
+     * 并行流时，SUBSIZED 的数据源(ArrayList、数组等)按拆分计算真实下标，其他数据源不再拆分
      *
      * @param predicate 断言
      * @return {@link St}
      */
     public St<T> filterIdx(BiPredicate<? super T, Integer> predicate) {
         Objects.requireNonNull(predicate);
-        if (isParallel()) {
-            return filter(e -> predicate.test(e, NOT_FOUND_INDEX));
-        } else {
-            AtomicInteger index = new AtomicInteger(NOT_FOUND_INDEX);
-            return filter(e -> predicate.test(e, index.incrementAndGet()));
-        }
+        return idx((e, i, action) -> {
+            if (predicate.test(e, i)) {
+                action.accept(e);
+                return true;
+            }
+            return false;
+        }, true);
     }
 
     /**
@@ -268,7 +491,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      * @return {@link St}
      */
     public St<T> nonNull() {
-        return new St<>(stream.filter(Objects::nonNull));
+        return filter(Objects::nonNull);
     }
 
     /**
@@ -279,56 +502,123 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <R> St<R> map(Function<? super T, ? extends R> mapper) {
-        return new St<>(stream.map(mapper));
+        if (Objects.nonNull(fused)) {
+            return next(fused.map(mapper));
+        }
+        return next(stream.map(mapper));
+    }
+
+    /**
+     * 在默认执行器上并发执行映射操作，按数据源的顺序输出结果，适用于 IO 密集的映射操作
+     * 默认执行器按需创建守护线程，不占用 {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     *
+     * @param mapper         映射操作
+     * @param maxConcurrency 最大并发数
+     * @return {@link St}
+     * @see #mapConcurrent(SerFunction, int, Executor)
+     */
+    public <R> St<R> mapConcurrent(SerFunction<? super T, ? extends R> mapper, int maxConcurrency) {
+        return mapConcurrent(mapper, maxConcurrency, ConcurrentMappingSpliterator.defaultExecutor());
+    }
+
+    /**
+     * 在指定的执行器上并发执行映射操作，按数据源的顺序输出结果
+     * 同时执行的任务不超过 maxConcurrency 个，每输出一个结果才会提交下一个元素，不会一次性提交全部元素
+     * 映射操作抛出的受检异常包装为 {@link io.github.yeluod.util.exception.KitException} 抛出，并取消尚未完成的任务，
+     * 关闭流时同样会取消尚未完成的任务
+     *
+     * @param mapper         映射操作
+     * @param maxConcurrency 最大并发数
+     * @param executor       执行器
+     * @return {@link St}
+     */
+    public <R> St<R> mapConcurrent(SerFunction<? super T, ? extends R> mapper, int maxConcurrency, Executor executor) {
+        return mapConcurrent(mapper, maxConcurrency, executor, true);
+    }
+
+    /**
+     * 在默认执行器上并发执行映射操作，按完成的顺序输出结果
+     *
+     * @param mapper         映射操作
+     * @param maxConcurrency 最大并发数
+     * @return {@link St}
+     * @see #mapConcurrent(SerFunction, int, Executor)
+     */
+    public <R> St<R> mapConcurrentUnordered(SerFunction<? super T, ? extends R> mapper, int maxConcurrency) {
+        return mapConcurrentUnordered(mapper, maxConcurrency, ConcurrentMappingSpliterator.defaultExecutor());
+    }
+
+    /**
+     * 在指定的执行器上并发执行映射操作，按完成的顺序输出结果，慢任务不会阻塞已完成的结果
+     *
+     * @param mapper         映射操作
+     * @param maxConcurrency 最大并发数
+     * @param executor       执行器
+     * @return {@link St}
+     * @see #mapConcurrent(SerFunction, int, Executor)
+     */
+    public <R> St<R> mapConcurrentUnordered(SerFunction<? super T, ? extends R> mapper, int maxConcurrency,
+                                            Executor executor) {
+        return mapConcurrent(mapper, maxConcurrency, executor, false);
+    }
+
+    private <R> St<R> mapConcurrent(SerFunction<? super T, ? extends R> mapper, int maxConcurrency,
+                                    Executor executor, boolean ordered) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        boolean parallel = isParallel();
+        ConcurrentMappingSpliterator<T, R> spliterator =
+                new ConcurrentMappingSpliterator<>(stream().spliterator(), mapper, maxConcurrency, executor, ordered);
+        return this.<R>wrap(spliterator, parallel).onClose(spliterator::cancel);
     }
 
     /**
-     * 返回与指定函数将元素作为参数执行的结果组成的流，操作带下标，并行流时下标永远为-1
+     * 返回与指定函数将元素作为参数执行的结果组成的流，操作带下标
+     * 并行流时，SUBSIZED 的数据源(ArrayList、数组等)按拆分计算真实下标，其他数据源不再拆分
      *
      * @param mapper 指定的函数
      * @return {@link St}
      */
     public <R> St<R> mapIdx(BiFunction<? super T, Integer, ? extends R> mapper) {
         Objects.requireNonNull(mapper);
-        if (isParallel()) {
-            return map(e -> mapper.apply(e, NOT_FOUND_INDEX));
-        } else {
-            AtomicInteger index = new AtomicInteger(NOT_FOUND_INDEX);
-            return map(e -> mapper.apply(e, index.incrementAndGet()));
-        }
+        return idx((e, i, action) -> {
+            action.accept(mapper.apply(e, i));
+            return true;
+        }, false);
     }
 
     /**
      * 和{@link St#map(Function)}一样，只不过函数的返回值必须为int类型
      *
      * @param mapper 返回值为int类型的函数
-     * @return {@link IntStream}
+     * @return {@link IntSt}
      */
     @Override
-    public IntStream mapToInt(ToIntFunction<? super T> mapper) {
-        return stream.mapToInt(mapper);
+    public IntSt mapToInt(ToIntFunction<? super T> mapper) {
+        return new IntSt(stream().mapToInt(mapper)).withPool(pool, ownsPool);
     }
 
     /**
      * 和{@link St#map(Function)}一样，只不过函数的返回值必须为long类型
      *
      * @param mapper 返回值为long类型的函数
-     * @return {@link LongStream}
+     * @return {@link LongSt}
      */
     @Override
-    public LongStream mapToLong(ToLongFunction<? super T> mapper) {
-        return stream.mapToLong(mapper);
+    public LongSt mapToLong(ToLongFunction<? super T> mapper) {
+        return new LongSt(stream().mapToLong(mapper)).withPool(pool, ownsPool);
     }
 
     /**
      * 和{@link St#map(Function)}一样，只不过函数的返回值必须为double类型
      *
      * @param mapper 返回值为double类型的函数
-     * @return {@link DoubleStream}
+     * @return {@link DoubleSt}
      */
     @Override
-    public DoubleStream mapToDouble(ToDoubleFunction<? super T> mapper) {
-        return stream.mapToDouble(mapper);
+    public DoubleSt mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return new DoubleSt(stream().mapToDouble(mapper)).withPool(pool, ownsPool);
     }
 
     /**
@@ -350,56 +640,52 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <R> St<R> flatMap(Function<? super T, ? extends Stream<? extends R>> mapper) {
-        return new St<>(stream.flatMap(mapper));
+        return next(stream().flatMap(mapper));
     }
 
     /**
-     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流，操作带下标，并行流时下标永远为-1
+     * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流，操作带下标
+     * 并行流时，SUBSIZED 的数据源(ArrayList、数组等)按拆分计算真实下标，其他数据源不再拆分
      *
      * @param mapper 操作，返回流
      * @return {@link St}
      */
     public <R> St<R> flatIdx(BiFunction<? super T, Integer, ? extends Stream<? extends R>> mapper) {
         Objects.requireNonNull(mapper);
-        if (isParallel()) {
-            return flatMap(e -> mapper.apply(e, NOT_FOUND_INDEX));
-        } else {
-            AtomicInteger index = new AtomicInteger(NOT_FOUND_INDEX);
-            return flatMap(e -> mapper.apply(e, index.incrementAndGet()));
-        }
+        return this.<Stream<? extends R>>mapIdx(mapper).flatMap(Function.identity());
     }
 
     /**
      * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
      *
      * @param mapper 操作，返回IntStream
-     * @return {@link IntStream}
+     * @return {@link IntSt}
      */
     @Override
-    public IntStream flatMapToInt(Function<? super T, ? extends IntStream> mapper) {
-        return stream.flatMapToInt(mapper);
+    public IntSt flatMapToInt(Function<? super T, ? extends IntStream> mapper) {
+        return new IntSt(stream().flatMapToInt(mapper)).withPool(pool, ownsPool);
     }
 
     /**
      * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
      *
      * @param mapper 操作，返回LongStream
-     * @return {@link LongStream}
+     * @return {@link LongSt}
      */
     @Override
-    public LongStream flatMapToLong(Function<? super T, ? extends LongStream> mapper) {
-        return stream.flatMapToLong(mapper);
+    public LongSt flatMapToLong(Function<? super T, ? extends LongStream> mapper) {
+        return new LongSt(stream().flatMapToLong(mapper)).withPool(pool, ownsPool);
     }
 
     /**
      * 扩散流操作，可能影响流元素个数，将原有流元素执行mapper操作，返回多个流所有元素组成的流
      *
      * @param mapper 操作，返回DoubleStream
-     * @return {@link DoubleStream}
+     * @return {@link DoubleSt}
      */
     @Override
-    public DoubleStream flatMapToDouble(Function<? super T, ? extends DoubleStream> mapper) {
-        return stream.flatMapToDouble(mapper);
+    public DoubleSt flatMapToDouble(Function<? super T, ? extends DoubleStream> mapper) {
+        return new DoubleSt(stream().flatMapToDouble(mapper)).withPool(pool, ownsPool);
     }
 
     /**
@@ -425,7 +711,105 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> distinct() {
-        return new St<>(stream.distinct());
+        return next(stream().distinct());
+    }
+
+    /**
+     * 按给定的 key 去重，保留每个 key 最先出现的元素
+     * 串行流边遍历边去重，只保存 key；并行流并且调用过 {@link #unordered()} 时多个线程共用同一个并发集合，不保证保留哪一个；
+     * 其他并行流在终端操作时按顺序收集
+     *
+     * @param key 去重依据
+     * @return {@link St}
+     */
+    public St<T> distinctBy(SerFunction<? super T, ?> key) {
+        Objects.requireNonNull(key);
+        if (!isParallel()) {
+            Set<Object> seen = new HashSet<>();
+            return distinct(e -> seen.add(key.apply(e)));
+        }
+        if (isConcurrent()) {
+            Set<Object> seen = ConcurrentHashMap.newKeySet();
+            return filter(e -> seen.add(Objects.requireNonNullElse(key.apply(e), NULL_KEY)));
+        }
+        return deferred(upstream -> upstream.collect(LinkedHashMap<Object, T>::new,
+                (map, e) -> map.putIfAbsent(key.apply(e), e), (l, r) -> r.forEach(l::putIfAbsent)).values());
+    }
+
+    /**
+     * 按给定的 key 去重，保留每个 key 最后出现的元素，结果按元素最后出现的顺序排列
+     * 需要看到全部元素才能确定结果，因此在终端操作时收集
+     *
+     * @param key 去重依据
+     * @return {@link St}
+     */
+    public St<T> distinctByLast(SerFunction<? super T, ?> key) {
+        Objects.requireNonNull(key);
+        BiConsumer<Map<Object, T>, Map.Entry<Object, T>> last = (map, entry) -> {
+            map.remove(entry.getKey());
+            map.put(entry.getKey(), entry.getValue());
+        };
+        return deferred(upstream -> upstream.collect(LinkedHashMap<Object, T>::new,
+                (map, e) -> last.accept(map, new AbstractMap.SimpleImmutableEntry<>(key.apply(e), e)),
+                (l, r) -> r.entrySet().forEach(entry -> last.accept(l, entry))).values());
+    }
+
+    /**
+     * 按给定的 key 近似去重，使用固定内存的布隆过滤器记录 key
+     * 不会输出重复的元素(并行流中同一个 key 同时出现时除外)，但有 fpp 的概率把首次出现的元素误判为重复而丢弃
+     * key 为字符串、数值、枚举、UUID 或由它们组成的 List 时按 64 位哈希判断；其他类型只依赖 hashCode，
+     * hashCode 相同的不同 key 总会被判为重复，此时误判率可能远高于 fpp，可以先把 key 转换为字符串或 List
+     *
+     * @param key                去重依据
+     * @param expectedInsertions 预期不同 key 的个数，用于确定占用的内存
+     * @param fpp                误判率，取值范围 (0, 1)
+     * @return {@link St}
+     */
+    public St<T> distinctByApprox(SerFunction<? super T, ?> key, long expectedInsertions, double fpp) {
+        Objects.requireNonNull(key);
+        boolean parallel = isParallel();
+        BloomFilter seen = new BloomFilter(expectedInsertions, fpp, parallel);
+        return parallel ? filter(e -> seen.put(key.apply(e))) : distinct(e -> seen.put(key.apply(e)));
+    }
+
+    /**
+     * 按给定的 int key 去重，保留每个 key 最先出现的元素
+     * 串行流使用开放寻址的 long 集合保存 key，不装箱
+     *
+     * @param key 去重依据
+     * @return {@link St}
+     * @see #distinctBy(SerFunction)
+     */
+    public St<T> distinctByInt(ToIntFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        return distinctByLong(key::applyAsInt);
+    }
+
+    /**
+     * 按给定的 long key 去重，保留每个 key 最先出现的元素
+     * 串行流使用开放寻址的 long 集合保存 key，不装箱
+     *
+     * @param key 去重依据
+     * @return {@link St}
+     * @see #distinctBy(SerFunction)
+     */
+    public St<T> distinctByLong(ToLongFunction<? super T> key) {
+        Objects.requireNonNull(key);
+        if (isParallel()) {
+            return distinctBy(key::applyAsLong);
+        }
+        LongHashSet seen = new LongHashSet();
+        return distinct(e -> seen.add(key.applyAsLong(e)));
+    }
+
+    /**
+     * 通过非线程安全的 seen 去重，拆分器不会被拆分
+     *
+     * @param seen 元素首次出现时返回 true
+     * @return {@link St}
+     */
+    private St<T> distinct(Predicate<? super T> seen) {
+        return wrap(new DistinctSpliterator<>(stream().spliterator(), seen), isParallel());
     }
 
     /**
@@ -437,7 +821,9 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> sorted() {
-        return new St<>(stream.sorted());
+        St<T> st = next(stream().sorted());
+        st.unordered = false;
+        return st;
     }
 
     /**
@@ -450,7 +836,34 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> sorted(Comparator<? super T> comparator) {
-        return new St<>(stream.sorted(comparator));
+        St<T> st = next(stream().sorted(comparator));
+        st.unordered = false;
+        return st;
+    }
+
+    /**
+     * 外部排序，用于元素总量超过堆内存的流
+     * 内存中元素编码后的字节数之和达到 memoryBudget 时，在内存中排序并写入临时文件，终端操作时对所有临时文件进行 k 路归并，逐个读取元素
+     * 内存中只保存元素本身，编码后的字节数只是元素大小的估计，解码后的对象在堆中通常更大，设置预算时需要留出余量
+     * 排序是稳定的，排序和归并都在串行执行；临时文件在读取完毕或关闭流时删除，提前结束遍历时需要关闭流
+     *
+     * @param comparator   比较器
+     * @param codec        元素的编解码
+     * @param memoryBudget 内存中缓存的元素按编码后计算的最大字节数
+     * @return {@link St}
+     */
+    public St<T> sortedExternal(Comparator<? super T> comparator, Codec<T> codec, long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive: " + memoryBudget);
+        }
+        ExternalSorter<T> sorter = new ExternalSorter<>(comparator, codec, memoryBudget);
+        Stream<T> upstream = stream();
+        Supplier<Spliterator<T>> sorted = () -> sorter.sort(upstream.spliterator());
+        St<T> st = next(StreamSupport.stream(sorted, Spliterator.ORDERED, false)
+                .onClose(sorter::close)
+                .onClose(upstream::close));
+        st.unordered = false;
+        return st;
     }
 
     /**
@@ -462,7 +875,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
     @Override
     @SuppressWarnings("all")
     public St<T> peek(Consumer<? super T> action) {
-        return new St<>(stream.peek(action));
+        if (Objects.nonNull(fused)) {
+            return next(fused.peek(action));
+        }
+        return next(stream.peek(action));
     }
 
     /**
@@ -483,7 +899,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> limit(long maxSize) {
-        return new St<>(stream.limit(maxSize));
+        if (Objects.nonNull(fused)) {
+            return next(fused.limit(maxSize));
+        }
+        return next(stream.limit(maxSize));
     }
 
     /**
@@ -494,7 +913,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> skip(long n) {
-        return new St<>(stream.skip(n));
+        if (Objects.nonNull(fused)) {
+            return next(fused.skip(n));
+        }
+        return next(stream.skip(n));
     }
 
     /**
@@ -504,7 +926,14 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public void forEach(Consumer<? super T> action) {
-        stream.forEach(action);
+        if (Objects.nonNull(fused)) {
+            fused.forEach(action);
+            return;
+        }
+        evaluate(() -> {
+            stream.forEach(action);
+            return null;
+        });
     }
 
     /**
@@ -514,22 +943,29 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        stream.forEachOrdered(action);
+        if (Objects.nonNull(fused)) {
+            fused.forEach(action);
+            return;
+        }
+        evaluate(() -> {
+            stream.forEachOrdered(action);
+            return null;
+        });
     }
 
     /**
-     * 对流里面的每一个元素执行一个操作，操作带下标，并行流时下标永远为-1
+     * 对流里面的每一个元素执行一个操作，操作带下标
+     * 并行流时，SUBSIZED 的数据源(ArrayList、数组等)按拆分计算真实下标，其他数据源不再拆分
      *
      * @param action 操作
      */
     public void forEachIdx(BiConsumer<? super T, Integer> action) {
         Objects.requireNonNull(action);
-        if (isParallel()) {
-            stream.forEach(e -> action.accept(e, NOT_FOUND_INDEX));
-        } else {
-            AtomicInteger index = new AtomicInteger(NOT_FOUND_INDEX);
-            stream.forEach(e -> action.accept(e, index.incrementAndGet()));
-        }
+        this.<T>idx((e, i, ignore) -> {
+            action.accept(e, i);
+            return false;
+        }, true).forEach(e -> {
+        });
     }
 
     /**
@@ -539,7 +975,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Object[] toArray() {
-        return stream.toArray();
+        if (Objects.nonNull(fused)) {
+            return fused.toList().toArray();
+        }
+        return evaluate(stream::toArray);
     }
 
     /**
@@ -550,7 +989,11 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return stream.toArray(generator);
+        if (Objects.nonNull(fused)) {
+            List<T> list = fused.toList();
+            return list.toArray(generator.apply(list.size()));
+        }
+        return evaluate(() -> stream.toArray(generator));
     }
 
     /**
@@ -563,7 +1006,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return stream.reduce(identity, accumulator);
+        if (Objects.nonNull(fused)) {
+            return fused.reduce(identity, accumulator);
+        }
+        return evaluate(() -> stream.reduce(identity, accumulator));
     }
 
     /**
@@ -574,7 +1020,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return stream.reduce(accumulator);
+        if (Objects.nonNull(fused)) {
+            return fused.reduce(accumulator);
+        }
+        return evaluate(() -> stream.reduce(accumulator));
     }
 
     /**
@@ -587,7 +1036,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return stream.reduce(identity, accumulator, combiner);
+        return evaluate(() -> stream().reduce(identity, accumulator, combiner));
     }
 
     /**
@@ -600,7 +1049,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
-        return stream.collect(supplier, accumulator, combiner);
+        if (Objects.nonNull(fused)) {
+            return fused.collect(supplier, accumulator);
+        }
+        return evaluate(() -> stream.collect(supplier, accumulator, combiner));
     }
 
     /**
@@ -611,7 +1063,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-        return stream.collect(collector);
+        if (Objects.nonNull(fused)) {
+            return fused.collect(collector);
+        }
+        return evaluate(() -> stream.collect(collector));
     }
 
     /**
@@ -622,7 +1077,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Optional<T> min(Comparator<? super T> comparator) {
-        return stream.min(comparator);
+        if (Objects.nonNull(fused)) {
+            return fused.reduce(BinaryOperator.minBy(comparator));
+        }
+        return evaluate(() -> stream.min(comparator));
     }
 
     /**
@@ -633,7 +1091,39 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Optional<T> max(Comparator<? super T> comparator) {
-        return stream.max(comparator);
+        if (Objects.nonNull(fused)) {
+            return fused.reduce(BinaryOperator.maxBy(comparator));
+        }
+        return evaluate(() -> stream.max(comparator));
+    }
+
+    /**
+     * 获取按比较器最大的 k 个元素，从大到小排列
+     * 使用容量为 k 的有界堆，不需要对全部元素排序，时间复杂度 O(n log k)，并行流中每个线程持有自己的堆，最后合并
+     *
+     * @param k          元素个数
+     * @param comparator 比较器
+     * @return {@link List}
+     */
+    public List<T> topK(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        Objects.requireNonNull(comparator);
+        return collect(() -> new BoundedHeap<T>(k, comparator), BoundedHeap::add, BoundedHeap::addAll).toList();
+    }
+
+    /**
+     * 获取按比较器最小的 k 个元素，从小到大排列
+     *
+     * @param k          元素个数
+     * @param comparator 比较器
+     * @return {@link List}
+     * @see #topK(int, Comparator)
+     */
+    public List<T> bottomK(int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        return topK(k, comparator.reversed());
     }
 
     /**
@@ -643,7 +1133,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public long count() {
-        return stream.count();
+        if (Objects.nonNull(fused)) {
+            return fused.count();
+        }
+        return evaluate(stream::count);
     }
 
     /**
@@ -654,7 +1147,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public boolean anyMatch(Predicate<? super T> predicate) {
-        return stream.anyMatch(predicate);
+        if (Objects.nonNull(fused)) {
+            return fused.anyMatch(predicate);
+        }
+        return evaluate(() -> stream.anyMatch(predicate));
     }
 
     /**
@@ -665,7 +1161,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public boolean allMatch(Predicate<? super T> predicate) {
-        return stream.allMatch(predicate);
+        if (Objects.nonNull(fused)) {
+            return fused.allMatch(predicate);
+        }
+        return evaluate(() -> stream.allMatch(predicate));
     }
 
     /**
@@ -676,7 +1175,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public boolean noneMatch(Predicate<? super T> predicate) {
-        return stream.noneMatch(predicate);
+        if (Objects.nonNull(fused)) {
+            return !fused.anyMatch(predicate);
+        }
+        return evaluate(() -> stream.noneMatch(predicate));
     }
 
     /**
@@ -686,7 +1188,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Optional<T> findFirst() {
-        return stream.findFirst();
+        if (Objects.nonNull(fused)) {
+            return fused.findFirst();
+        }
+        return evaluate(stream::findFirst);
     }
 
     /**
@@ -696,96 +1201,106 @@ public class St<T> implements Stream<T>, Iterable<T> {
      * @return {@link Optional}
      */
     public Optional<T> findFirst(Predicate<? super T> predicate) {
-        return stream.filter(predicate).findFirst();
+        return filter(predicate).findFirst();
     }
 
     /**
-     * 获取与给定断言匹配的第一个元素的下标，并行流下标永远为-1
+     * 获取与给定断言匹配的第一个元素的下标，未找到时为-1
      *
      * @param predicate 断言
      * @return {@link Integer}
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     public Integer findFirstIdx(Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        if (isParallel()) {
-            return NOT_FOUND_INDEX;
-        } else {
-            AtomicInteger index = new AtomicInteger(NOT_FOUND_INDEX);
-            stream.filter(e -> {
-                index.incrementAndGet();
-                return predicate.test(e);
-            }).findFirst();
-            return index.get();
-        }
+        return matchIdx(predicate).findFirst().orElse(NOT_FOUND_INDEX);
     }
 
     /**
      * 获取最后一个元素
+     * 数据源可以反向遍历时直接取最后一个元素，否则不会收集元素，并行流从尾部开始查找
      *
      * @return {@link Optional}
      */
     public Optional<T> findLast() {
-        if (isParallel()) {
-            return Optional.of(toList()).filter(l -> !l.isEmpty()).map(l -> l.get(l.size() - 1));
-        } else {
-            AtomicReference<T> last = new AtomicReference<>(null);
-            forEach(last::set);
-            return Optional.ofNullable(last.get());
+        if (Objects.nonNull(source)) {
+            Iterator<T> descending = descendingIterator();
+            return descending.hasNext() ? Optional.ofNullable(descending.next()) : Optional.empty();
         }
+        return findLast(e -> true);
     }
 
     /**
      * 获取与给定断言匹配的最后一个元素
+     * 串行流的数据源可以反向遍历时从尾部开始查找，并行流对 SUBSIZED 的拆分器从尾部开始拆分查找，找到后短路
      *
      * @param predicate 断言
      * @return {@link Optional}
      */
     public Optional<T> findLast(Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        if (isParallel()) {
-            return filter(predicate).findLast();
-        } else {
-            AtomicReference<T> last = new AtomicReference<>(null);
-            forEach(e -> {
+        boolean parallel = isParallel();
+        if (!parallel && Objects.nonNull(source)) {
+            Iterator<T> descending = descendingIterator();
+            while (descending.hasNext()) {
+                T e = descending.next();
                 if (predicate.test(e)) {
-                    last.set(e);
+                    return Optional.ofNullable(e);
                 }
-            });
-            return Optional.ofNullable(last.get());
+            }
+            return Optional.empty();
         }
+        return evaluate(() -> FindLastTask.find(stream().spliterator(), predicate, parallel));
     }
 
     /**
-     * 获取与给定断言匹配的最后一个元素的下标，并行流下标永远为-1
+     * 获取与给定断言匹配的最后一个元素的下标，未找到时为-1
      *
      * @param predicate 断言
      * @return {@link Integer}
      */
     public Integer findLastIdx(Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
-        if (isParallel()) {
-            return NOT_FOUND_INDEX;
-        } else {
-            AtomicInteger idxRef = new AtomicInteger(NOT_FOUND_INDEX);
-            forEachIdx((e, i) -> {
-                if (predicate.test(e)) {
-                    idxRef.set(i);
-                }
-            });
-            return idxRef.get();
-        }
+        return matchIdx(predicate).max(Integer::compare).orElse(NOT_FOUND_INDEX);
+    }
+
+    /**
+     * 返回与给定断言匹配的元素的下标组成的流
+     *
+     * @param predicate 断言
+     * @return {@link St}
+     */
+    private St<Integer> matchIdx(Predicate<? super T> predicate) {
+        return idx((e, i, action) -> {
+            if (predicate.test(e)) {
+                action.accept(i);
+                return true;
+            }
+            return false;
+        }, true);
     }
 
     /**
      * 反转顺序
+     * 数据源为 RandomAccess 的 {@link List}、数组时返回可拆分的反向视图，为 {@link Deque} 时反向迭代，均不复制元素
+     * 其他数据源在终端操作时将元素收集到分块缓冲区中再反向遍历
      *
      * @return {@link St}
      */
     public St<T> reverse() {
-        List<T> list = toList();
-        Collections.reverse(list);
-        return of(list, isParallel());
+        boolean parallel = isParallel();
+        if (source instanceof List<T> list && list instanceof RandomAccess) {
+            return wrap(new ReverseSpliterator<>(list::get, list.size()), parallel);
+        }
+        if (source instanceof Deque<T> deque) {
+            return wrap(Spliterators.spliterator(deque.descendingIterator(), deque.size(), Spliterator.ORDERED), parallel);
+        }
+        Stream<T> upstream = stream();
+        Supplier<Spliterator<T>> buffered = () -> {
+            ChunkedBuffer<T> buffer = upstream.collect(ChunkedBuffer::new, ChunkedBuffer::add, ChunkedBuffer::addAll);
+            return new ReverseSpliterator<>(buffer::get, buffer.size());
+        };
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        return next(StreamSupport.stream(buffered, characteristics, parallel).onClose(upstream::close));
     }
 
     /**
@@ -795,7 +1310,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Optional<T> findAny() {
-        return stream.findAny();
+        if (Objects.nonNull(fused)) {
+            return fused.findFirst();
+        }
+        return evaluate(stream::findAny);
     }
 
     /**
@@ -805,7 +1323,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return stream.iterator();
+        return stream().iterator();
     }
 
     /**
@@ -815,7 +1333,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public Spliterator<T> spliterator() {
-        return stream.spliterator();
+        return stream().spliterator();
     }
 
     /**
@@ -825,8 +1343,10 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public St<T> sequential() {
-        //noinspection ResultOfMethodCallIgnored
-        stream.sequential();
+        if (Objects.isNull(fused)) {
+            //noinspection ResultOfMethodCallIgnored
+            stream.sequential();
+        }
         return this;
     }
 
@@ -838,39 +1358,88 @@ public class St<T> implements Stream<T>, Iterable<T> {
     @Override
     public St<T> parallel() {
         //noinspection DataFlowIssue
-        this.stream = stream.parallel();
+        this.stream = stream().parallel();
         return this;
     }
 
     /**
-     * 返回流的并行状态
+     * 将流转换为并行，并在给定的线程池中执行终端操作，之后的中间操作会沿用该线程池，
+     * 包括 mapToInt、windowToLong 等转换出的 {@link IntSt}、{@link LongSt}、{@link DoubleSt}
+     * 用于隔离不同的并行任务，避免一个耗时的并行流占满 {@link ForkJoinPool#commonPool()}
+     * 不同的调用方应使用各自的线程池，线程池的生命周期由调用方管理，流不会关闭该线程池
      *
-     * @return {@link Boolean}
+     * @param pool 线程池
+     * @return {@link St}
      */
-    @Override
-    public boolean isParallel() {
-        return stream.isParallel();
+    public St<T> parallel(ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        if (ownsPool && this.pool != pool) {
+            this.pool.shutdown();
+        }
+        this.pool = pool;
+        this.ownsPool = false;
+        return parallel();
     }
 
     /**
-     * 返回一个无序流(无手动排序)
+     * 将流转换为并行，并在一个新建的、给定并行度的线程池中执行终端操作，用于限制单个并行流占用的 CPU
+     * 线程池只属于当前流水线，终端操作结束或关闭流时关闭；需要多个流共用线程池时使用 {@link #parallel(ForkJoinPool)}
      *
+     * @param parallelism 并行度
      * @return {@link St}
+     * @see #parallel(ForkJoinPool)
      */
-    @Override
-    public St<T> unordered() {
-        return new St<>(stream.unordered());
+    public St<T> parallel(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        ForkJoinPool owned = new ForkJoinPool(parallelism);
+        parallel(owned);
+        this.stream = stream.onClose(owned::shutdown);
+        this.ownsPool = true;
+        return this;
     }
 
     /**
-     * 在流关闭时执行操作
+     * 返回流的并行状态
+     *
+     * @return {@link Boolean}
+     */
+    @Override
+    public boolean isParallel() {
+        return Objects.isNull(fused) && stream.isParallel();
+    }
+
+    /**
+     * 返回流的可变状态
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    /**
+     * 返回一个无序流(无手动排序)
+     *
+     * @return {@link St}
+     */
+    @Override
+    public St<T> unordered() {
+        St<T> st = next(stream().unordered());
+        st.unordered = true;
+        return st;
+    }
+
+    /**
+     * 在流关闭时执行操作
      *
      * @param closeHandler 在流关闭时执行的操作
      * @return {@link St}
      */
     @Override
     public St<T> onClose(Runnable closeHandler) {
-        this.stream = stream.onClose(closeHandler);
+        this.stream = stream().onClose(closeHandler);
         return this;
     }
 
@@ -881,7 +1450,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public void close() {
-        stream.close();
+        stream().close();
     }
 
     /**
@@ -891,7 +1460,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public int hashCode() {
-        return stream.hashCode();
+        return stream().hashCode();
     }
 
     /**
@@ -903,7 +1472,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Stream) {
-            return stream.equals(obj);
+            return stream().equals(obj);
         }
         return false;
     }
@@ -915,7 +1484,20 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     @Override
     public String toString() {
-        return stream.toString();
+        return stream().toString();
+    }
+
+    /**
+     * 转换为不可变的{@link List}
+     *
+     * @return {@link List}
+     */
+    @Override
+    public List<T> toList() {
+        if (Objects.nonNull(fused)) {
+            return Collections.unmodifiableList(fused.toList());
+        }
+        return evaluate(stream::toList);
     }
 
     /**
@@ -945,20 +1527,180 @@ public class St<T> implements Stream<T>, Iterable<T> {
      * @return {@link Map}
      */
     public <R> Map<T, R> toZip(Iterable<R> other) {
-        // value对象迭代器
-        final Iterator<R> iterator = Op.of(other).map(Iterable::iterator).orElseGet(Collections::emptyIterator);
-        if (isParallel()) {
-            List<T> keyList = toList();
-            final Map<T, R> map = new HashMap<>(keyList.size());
-            for (T key : keyList) {
-                map.put(key, iterator.hasNext() ? iterator.next() : null);
-            }
-            return map;
-        } else {
-            return toMap(Function.identity(), e -> iterator.hasNext() ? iterator.next() : null);
+        boolean parallel = isParallel();
+        Spliterator<Map.Entry<T, R>> spliterator = zipSpliterator(other, AbstractMap.SimpleImmutableEntry::new, true, parallel);
+        long size = spliterator.getExactSizeIfKnown();
+        int capacity = size < 0 ? 16 : (int) Math.min(size * 4 / 3 + 1, Integer.MAX_VALUE - 8);
+        return evaluate(() -> StreamSupport.stream(spliterator, parallel).collect(() -> new HashMap<>(capacity),
+                (map, entry) -> map.put(entry.getKey(), entry.getValue()), Map::putAll));
+    }
+
+    /**
+     * 与给定的可迭代对象按顺序一一合并，元素个数以较少的一方为准
+     * 两侧都是 RandomAccess 的 {@link List}(或数组)时按下标合并，两侧都是 SUBSIZED 并且元素个数相同时同步拆分，以便并行执行
+     *
+     * @param other  可迭代对象
+     * @param zipper 合并操作
+     * @return {@link St}
+     */
+    public <U, R> St<R> zip(Iterable<U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        Objects.requireNonNull(zipper);
+        boolean parallel = isParallel();
+        return wrap(zipSpliterator(other, zipper, false, parallel), parallel);
+    }
+
+    /**
+     * 与给定的流按顺序一一合并，元素个数以较少的一方为准
+     * 两侧都是 SUBSIZED 并且元素个数相同时同步拆分，以便并行执行
+     *
+     * @param other  流
+     * @param zipper 合并操作
+     * @return {@link St}
+     */
+    public <U, R> St<R> zip(Stream<U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(zipper);
+        boolean parallel = isParallel();
+        return wrap(new ZipSpliterator<T, U, R>(stream().spliterator(), other.spliterator(), zipper, false), parallel)
+                .onClose(other::close);
+    }
+
+    /**
+     * 与给定的流按顺序一一合并，元素个数以较少的一方为准
+     *
+     * @param other  流
+     * @param zipper 合并操作
+     * @return {@link St}
+     * @see #zip(Iterable, BiFunction)
+     */
+    public <U, R> St<R> zip(St<U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return zip((Iterable<U>) other, zipper);
+    }
+
+    /**
+     * 将元素与其下标合并，key为元素，value为下标
+     *
+     * @return {@link St}
+     */
+    public St<Map.Entry<T, Integer>> zipWithIndex() {
+        return mapIdx(AbstractMap.SimpleImmutableEntry::new);
+    }
+
+    /**
+     * 按顺序将元素每 size 个分为一块，最后一块可能不足 size 个，每一块都是不可修改的 {@link List}
+     * 数据源为 RandomAccess 的 {@link List}、数组时每一块都是原数据的视图，不复制元素
+     * 其他 SUBSIZED 的数据源按块的边界拆分，并行处理时各部分的块数保持均衡
+     *
+     * @param size 每一块的元素个数
+     * @return {@link St}
+     */
+    public St<List<T>> chunk(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive: " + size);
+        }
+        boolean parallel = isParallel();
+        if (source instanceof List<T> list && list instanceof RandomAccess) {
+            int total = list.size();
+            IntStream chunks = IntStream.range(0, (int) (((long) total + size - 1) / size));
+            return wrap((parallel ? chunks.parallel() : chunks)
+                    .mapToObj(i -> Collections.unmodifiableList(list.subList(
+                            (int) ((long) i * size), (int) Math.min(total, (long) (i + 1) * size))))
+                    .spliterator(), parallel);
+        }
+        return wrap(new ChunkSpliterator<>(stream().spliterator(), size), parallel);
+    }
+
+    /**
+     * 滑动窗口，每前进 step 个元素输出一个包含 size 个元素的窗口，不足 size 个元素的窗口不会输出
+     * step 等于 size 时为滚动窗口，每个窗口都是不可修改的副本
+     *
+     * @param size 窗口大小
+     * @param step 步长
+     * @return {@link St}
+     * @see #window(int, int, boolean)
+     */
+    public St<List<T>> window(int size, int step) {
+        return window(size, step, false);
+    }
+
+    /**
+     * 滑动窗口，元素保存在环形缓冲区中，每次前进只写入新进入窗口的元素
+     * view 为 true 时输出环形缓冲区的只读视图，所有窗口共用同一个视图，视图的内容仅在下一个窗口输出之前有效，
+     * 适合在 map、forEach 中立即计算的场景，需要保留窗口时使用副本
+     *
+     * @param size 窗口大小
+     * @param step 步长
+     * @param view 是否输出只读视图
+     * @return {@link St}
+     */
+    public St<List<T>> window(int size, int step, boolean view) {
+        checkWindow(size, step);
+        boolean parallel = isParallel();
+        return wrap(new WindowSpliterator<>(stream().spliterator(), size, step, view), parallel);
+    }
+
+    /**
+     * 滑动窗口聚合，每个元素以 O(1) 的均摊代价更新窗口的 sum/min/max，全程不装箱
+     *
+     * @param size      窗口大小
+     * @param step      步长
+     * @param mapper    取值操作
+     * @param aggregate 聚合方式
+     * @return {@link LongSt}
+     */
+    public LongSt windowToLong(int size, int step, ToLongFunction<? super T> mapper, Aggregate aggregate) {
+        checkWindow(size, step);
+        boolean parallel = isParallel();
+        Spliterator.OfLong spliterator = new WindowSpliterator.OfLong<>(stream().spliterator(), mapper, aggregate, size, step);
+        return new LongSt(StreamSupport.longStream(spliterator, parallel).onClose(stream()::close)).withPool(pool, ownsPool);
+    }
+
+    /**
+     * 滑动窗口聚合，每个元素以 O(1) 的均摊代价更新窗口的 sum/min/max，全程不装箱
+     * sum 使用补偿求和，并且每前进 size 个元素重新求和一次，误差不超过约 2 * ulp(1) 乘以最近 2 * size 个元素的绝对值之和
+     *
+     * @param size      窗口大小
+     * @param step      步长
+     * @param mapper    取值操作
+     * @param aggregate 聚合方式
+     * @return {@link DoubleSt}
+     */
+    public DoubleSt windowToDouble(int size, int step, ToDoubleFunction<? super T> mapper, Aggregate aggregate) {
+        checkWindow(size, step);
+        boolean parallel = isParallel();
+        Spliterator.OfDouble spliterator = new WindowSpliterator.OfDouble<>(stream().spliterator(), mapper, aggregate, size, step);
+        return new DoubleSt(StreamSupport.doubleStream(spliterator, parallel).onClose(stream()::close)).withPool(pool, ownsPool);
+    }
+
+    private static void checkWindow(int size, int step) {
+        if (size <= 0 || step <= 0) {
+            throw new IllegalArgumentException("window size and step must be positive: " + size + ", " + step);
         }
     }
 
+    /**
+     * 返回与给定的可迭代对象合并的拆分器
+     *
+     * @param other    可迭代对象
+     * @param zipper   合并操作
+     * @param padding  右侧元素不足时是否用 null 补齐
+     * @param parallel 是否并行
+     * @return {@link Spliterator}
+     */
+    private <U, R> Spliterator<R> zipSpliterator(Iterable<U> other, BiFunction<? super T, ? super U, ? extends R> zipper,
+                                                 boolean padding, boolean parallel) {
+        if (source instanceof List<T> list && list instanceof RandomAccess
+            && other instanceof List<U> otherList && otherList instanceof RandomAccess) {
+            int otherSize = otherList.size();
+            IntStream range = IntStream.range(0, padding ? list.size() : Math.min(list.size(), otherSize));
+            return (parallel ? range.parallel() : range)
+                    .<R>mapToObj(i -> zipper.apply(list.get(i), i < otherSize ? otherList.get(i) : null))
+                    .spliterator();
+        }
+        Spliterator<U> right = Objects.isNull(other) ? Spliterators.emptySpliterator() : other.spliterator();
+        return new ZipSpliterator<>(stream().spliterator(), right, zipper, padding);
+    }
+
     /**
      * 返回拼接后的字符串
      *
@@ -979,7 +1721,8 @@ public class St<T> implements Stream<T>, Iterable<T> {
     }
 
     /**
-     * 返回拼接后的字符串
+     * 返回拼接后的字符串，{@link CharSequence} 元素直接拼接，其他元素转换为 {@link String}
+     * 串行流按元素个数预估容量；并行流每个线程只记录需要拼接的元素，最后按精确的长度拼接一次
      *
      * @param delimiter 分隔符
      * @param prefix    前缀
@@ -989,7 +1732,55 @@ public class St<T> implements Stream<T>, Iterable<T> {
     public String join(CharSequence delimiter,
                        CharSequence prefix,
                        CharSequence suffix) {
-        return map(String::valueOf).collect(Collectors.joining(delimiter, prefix, suffix));
+        Objects.requireNonNull(delimiter);
+        Objects.requireNonNull(prefix);
+        Objects.requireNonNull(suffix);
+        if (isParallel()) {
+            return collect(() -> new Joiner(delimiter), Joiner::add, Joiner::merge).join(prefix, suffix);
+        }
+        if (Objects.nonNull(fused)) {
+            return joinTo(new StringBuilder(), delimiter, prefix, suffix).toString();
+        }
+        Spliterator<T> spliterator = stream.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        long capacity = prefix.length() + suffix.length() + (size < 0 ? 16L : size * (delimiter.length() + 8L));
+        StringBuilder builder = new StringBuilder((int) Math.min(capacity, 1 << 20));
+        builder.append(prefix);
+        spliterator.forEachRemaining(new Joiner.Appender(builder, delimiter));
+        return builder.append(suffix).toString();
+    }
+
+    /**
+     * 按顺序将元素拼接并写入给定的 {@link Appendable}，不会构建完整的字符串
+     *
+     * @param appendable {@link Appendable}，如 {@link java.io.Writer}、{@link StringBuilder}
+     * @param delimiter  分隔符
+     * @return {@link Appendable}
+     * @see #joinTo(Appendable, CharSequence, CharSequence, CharSequence)
+     */
+    public <A extends Appendable> A joinTo(A appendable, CharSequence delimiter) {
+        return joinTo(appendable, delimiter, "", "");
+    }
+
+    /**
+     * 按顺序将元素拼接并写入给定的 {@link Appendable}，不会构建完整的字符串，写入时的 {@link IOException} 包装为 {@link KitException}
+     * 并行流时元素按顺序逐个写入
+     *
+     * @param appendable {@link Appendable}，如 {@link java.io.Writer}、{@link StringBuilder}
+     * @param delimiter  分隔符
+     * @param prefix     前缀
+     * @param suffix     后缀
+     * @return {@link Appendable}
+     */
+    public <A extends Appendable> A joinTo(A appendable, CharSequence delimiter,
+                                           CharSequence prefix, CharSequence suffix) {
+        Objects.requireNonNull(prefix);
+        Objects.requireNonNull(suffix);
+        Joiner.Appender appender = new Joiner.Appender(appendable, delimiter);
+        appender.append(prefix);
+        forEachOrdered(appender);
+        appender.append(suffix);
+        return appendable;
     }
 
     /**
@@ -1017,6 +1808,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
 
     /**
      * 转换为map，key,value为给定操作执行后的返回值
+     * 并行的无序流先并发写入同一个 {@link ConcurrentHashMap}，null 的 key 使用 {@link #NULL_KEY} 代替，最后复制为 {@link HashMap} 返回
      *
      * @param keyMapper     指定的key操作
      * @param valueMapper   指定value操作
@@ -1026,6 +1818,14 @@ public class St<T> implements Stream<T>, Iterable<T> {
     public <K, U> Map<K, U> toMap(Function<? super T, ? extends K> keyMapper,
                                   Function<? super T, ? extends U> valueMapper,
                                   BinaryOperator<U> mergeFunction) {
+        if (isConcurrent()) {
+            Objects.requireNonNull(keyMapper);
+            ConcurrentMap<Object, U> masked = toConcurrentMap(
+                    e -> Objects.requireNonNullElse(keyMapper.apply(e), NULL_KEY), valueMapper, mergeFunction);
+            Map<K, U> result = new HashMap<>(masked.size() * 4 / 3 + 1);
+            masked.forEach((k, v) -> result.put(unmaskNull(k), v));
+            return result;
+        }
         return toMap(keyMapper, valueMapper, mergeFunction, HashMap::new);
     }
 
@@ -1059,6 +1859,7 @@ public class St<T> implements Stream<T>, Iterable<T> {
 
     /**
      * 通过给定分组依据进行分组
+     * 并行流并且调用过 {@link #unordered()} 时，所有线程共同写入同一个 {@link ConcurrentHashMap}，不再合并各线程的结果
      *
      * @param classifier 分组依据
      * @param downstream 下游操作
@@ -1066,6 +1867,9 @@ public class St<T> implements Stream<T>, Iterable<T> {
      */
     public <K, A, D> Map<K, D> group(Function<? super T, ? extends K> classifier,
                                      Collector<? super T, A, D> downstream) {
+        if (isConcurrent()) {
+            return groupConcurrent(classifier, downstream);
+        }
         return group(classifier, HashMap::new, downstream);
     }
 
@@ -1083,6 +1887,384 @@ public class St<T> implements Stream<T>, Iterable<T> {
         return collect(Collectors.groupingBy(classifier, mapFactory, downstream));
     }
 
+    /**
+     * 通过给定分组依据进行并发分组，并行流的所有线程共同写入同一个 {@link ConcurrentHashMap}，不需要合并各线程的结果
+     * 分组内元素的顺序不保证与流中的顺序一致
+     *
+     * @param classifier 分组依据
+     * @return {@link ConcurrentMap}
+     */
+    public <K> ConcurrentMap<K, List<T>> groupConcurrent(Function<? super T, ? extends K> classifier) {
+        return groupConcurrent(classifier, Collectors.toList());
+    }
+
+    /**
+     * 通过给定分组依据进行并发分组
+     *
+     * @param classifier 分组依据
+     * @param downstream 下游操作
+     * @return {@link ConcurrentMap}
+     * @see #groupConcurrent(Function)
+     */
+    public <K, A, D> ConcurrentMap<K, D> groupConcurrent(Function<? super T, ? extends K> classifier,
+                                                         Collector<? super T, A, D> downstream) {
+        return collect(Collectors.groupingByConcurrent(classifier, downstream));
+    }
+
+    /**
+     * 转换为并发map，key为给定操作执行后的返回值,value为当前元素
+     *
+     * @param keyMapper 指定的key操作
+     * @return {@link ConcurrentMap}
+     * @see #toConcurrentMap(Function, Function, BinaryOperator)
+     */
+    public <K> ConcurrentMap<K, T> toConcurrentMap(Function<? super T, ? extends K> keyMapper) {
+        return toConcurrentMap(keyMapper, Function.identity());
+    }
+
+    /**
+     * 转换为并发map，key,value为给定操作执行后的返回值
+     *
+     * @param keyMapper   指定的key操作
+     * @param valueMapper 指定value操作
+     * @return {@link ConcurrentMap}
+     * @see #toConcurrentMap(Function, Function, BinaryOperator)
+     */
+    public <K, U> ConcurrentMap<K, U> toConcurrentMap(Function<? super T, ? extends K> keyMapper,
+                                                      Function<? super T, ? extends U> valueMapper) {
+        return toConcurrentMap(keyMapper, valueMapper, (l, r) -> r);
+    }
+
+    /**
+     * 转换为并发map，并行流的所有线程共同写入同一个 {@link ConcurrentHashMap}，不需要合并各线程的结果
+     * key 冲突时合并的先后顺序不保证与流中的顺序一致
+     *
+     * @param keyMapper     指定的key操作
+     * @param valueMapper   指定value操作
+     * @param mergeFunction 合并操作
+     * @return {@link ConcurrentMap}
+     */
+    public <K, U> ConcurrentMap<K, U> toConcurrentMap(Function<? super T, ? extends K> keyMapper,
+                                                      Function<? super T, ? extends U> valueMapper,
+                                                      BinaryOperator<U> mergeFunction) {
+        return collect(Collectors.toConcurrentMap(keyMapper, valueMapper, mergeFunction));
+    }
+
+    /**
+     * 分组计数，并行流每个分组使用 {@link LongAdder} 计数，线程之间不会竞争同一个计数器，也不需要合并各线程的结果
+     *
+     * @param classifier 分组依据
+     * @return {@link Map}
+     */
+    public <K> Map<K, Long> groupCount(Function<? super T, ? extends K> classifier) {
+        return groupSumLong(classifier, e -> 1L);
+    }
+
+    /**
+     * 分组求和，全程不装箱；串行流使用 {@link HashMap} 和 long 累加，并行流每个分组使用 {@link LongAdder} 累加
+     *
+     * @param classifier 分组依据
+     * @param mapper     取值操作
+     * @return {@link Map}
+     * @see #groupCount(Function)
+     */
+    public <K> Map<K, Long> groupSumLong(Function<? super T, ? extends K> classifier, ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        if (!isParallel()) {
+            Map<K, long[]> sums = new HashMap<>();
+            forEach(e -> sums.computeIfAbsent(classifier.apply(e), k -> new long[1])[0] += mapper.applyAsLong(e));
+            Map<K, Long> result = new HashMap<>(sums.size() * 4 / 3 + 1);
+            sums.forEach((k, sum) -> result.put(k, sum[0]));
+            return result;
+        }
+        ConcurrentMap<Object, LongAdder> adders = new ConcurrentHashMap<>();
+        forEach(e -> adder(adders, classifier.apply(e), LongAdder::new).add(mapper.applyAsLong(e)));
+        Map<K, Long> result = new HashMap<>(adders.size() * 4 / 3 + 1);
+        adders.forEach((k, adder) -> result.put(unmaskNull(k), adder.sum()));
+        return result;
+    }
+
+    /**
+     * 分组求和，全程不装箱；串行流使用 {@link HashMap} 和 double 累加，并行流每个分组使用 {@link DoubleAdder} 累加
+     *
+     * @param classifier 分组依据
+     * @param mapper     取值操作
+     * @return {@link Map}
+     * @see #groupCount(Function)
+     */
+    public <K> Map<K, Double> groupSumDouble(Function<? super T, ? extends K> classifier, ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(classifier);
+        Objects.requireNonNull(mapper);
+        if (!isParallel()) {
+            Map<K, double[]> sums = new HashMap<>();
+            forEach(e -> sums.computeIfAbsent(classifier.apply(e), k -> new double[1])[0] += mapper.applyAsDouble(e));
+            Map<K, Double> result = new HashMap<>(sums.size() * 4 / 3 + 1);
+            sums.forEach((k, sum) -> result.put(k, sum[0]));
+            return result;
+        }
+        ConcurrentMap<Object, DoubleAdder> adders = new ConcurrentHashMap<>();
+        forEach(e -> adder(adders, classifier.apply(e), DoubleAdder::new).add(mapper.applyAsDouble(e)));
+        Map<K, Double> result = new HashMap<>(adders.size() * 4 / 3 + 1);
+        adders.forEach((k, adder) -> result.put(unmaskNull(k), adder.sum()));
+        return result;
+    }
+
+    /**
+     * 获取分组的累加器，已存在时不加锁，null 的 key 使用 {@link #NULL_KEY} 代替
+     */
+    private static <A> A adder(ConcurrentMap<Object, A> adders, Object key, Supplier<A> factory) {
+        Object masked = Objects.requireNonNullElse(key, NULL_KEY);
+        A adder = adders.get(masked);
+        return Objects.nonNull(adder) ? adder : adders.computeIfAbsent(masked, k -> factory.get());
+    }
+
+    /**
+     * 将 {@link #NULL_KEY} 还原为 null
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> K unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    /**
+     * 是否使用并发容器收集，并行流并且调用过 {@link #unordered()} 时不需要保持元素的顺序
+     *
+     * @return {@link Boolean}
+     */
+    private boolean isConcurrent() {
+        return unordered && isParallel();
+    }
+
+    /**
+     * 返回数据源的反向迭代器，数据源不存在时返回 null
+     *
+     * @return {@link Iterator}
+     */
+    private Iterator<T> descendingIterator() {
+        if (source instanceof List<T> list) {
+            ListIterator<T> iterator = list.listIterator(list.size());
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public T next() {
+                    return iterator.previous();
+                }
+            };
+        }
+        if (source instanceof Deque<T> deque) {
+            return deque.descendingIterator();
+        }
+        return null;
+    }
+
+    /**
+     * 通过带下标的拆分器包装当前流
+     *
+     * @param sink      带下标的元素处理
+     * @param filtering 是否会改变元素个数
+     * @return {@link St}
+     */
+    private <R> St<R> idx(IdxSpliterator.Sink<? super T, R> sink, boolean filtering) {
+        boolean parallel = isParallel();
+        return wrap(new IdxSpliterator<>(stream().spliterator(), sink, filtering), parallel);
+    }
+
+    /**
+     * 沿用其他流的线程池，用于基本类型流转换回 {@link St}
+     *
+     * @param pool     线程池
+     * @param ownsPool 线程池是否属于当前流水线
+     * @return {@link St}
+     */
+    St<T> withPool(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        return this;
+    }
+
+    /**
+     * 切换为可变模式
+     *
+     * @return {@link St}
+     */
+    private St<T> toMutable() {
+        this.mutable = true;
+        return this;
+    }
+
+    /**
+     * 返回中间操作之后的流
+     * 可变模式下替换内部的流并返回本身，否则创建新的 {@link St}
+     *
+     * @param next 中间操作之后的流
+     * @return {@link St}
+     */
+    @SuppressWarnings("unchecked")
+    private <R> St<R> next(Stream<R> next) {
+        if (!mutable) {
+            St<R> st = new St<>(next);
+            st.pool = pool;
+            st.ownsPool = ownsPool;
+            st.unordered = unordered;
+            return st;
+        }
+        this.stream = (Stream<T>) next;
+        this.fused = null;
+        this.source = null;
+        return (St<R>) this;
+    }
+
+    /**
+     * 返回融合执行的中间操作之后的流
+     *
+     * @param next 中间操作之后的融合流水线
+     * @return {@link St}
+     * @see #next(Stream)
+     */
+    @SuppressWarnings("unchecked")
+    private <R> St<R> next(FusedPipeline<R> next) {
+        if (getClass() != St.class) {
+            return next(next.stream());
+        }
+        if (!mutable) {
+            return new St<>(next, null);
+        }
+        this.fused = (FusedPipeline<T>) next;
+        this.stream = null;
+        this.source = null;
+        return (St<R>) this;
+    }
+
+    /**
+     * 返回终端操作时才收集的流，用于需要看到全部元素才能输出的中间操作
+     *
+     * @param terminal 收集操作
+     * @return {@link St}
+     */
+    private <R> St<R> deferred(Function<Stream<T>, Collection<R>> terminal) {
+        boolean parallel = isParallel();
+        Stream<T> upstream = stream();
+        Supplier<Spliterator<R>> collected = () -> new ArrayList<>(terminal.apply(upstream)).spliterator();
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        return next(StreamSupport.stream(collected, characteristics, parallel).onClose(upstream::close));
+    }
+
+    /**
+     * 执行终端操作，并行流指定了线程池时在该线程池中执行
+     *
+     * @param terminal 终端操作
+     * @return 终端操作的结果
+     */
+    private <R> R evaluate(Supplier<R> terminal) {
+        return evaluate(pool, ownsPool, isParallel(), terminal);
+    }
+
+    /**
+     * 执行终端操作，并行流指定了线程池时在该线程池中执行，{@link IntSt}、{@link LongSt}、{@link DoubleSt} 共用
+     *
+     * @param pool     线程池，为 null 时在当前线程执行
+     * @param ownsPool 线程池是否属于当前流水线，是则执行结束后关闭
+     * @param parallel 是否为并行流
+     * @param terminal 终端操作
+     * @return 终端操作的结果
+     */
+    static <R> R evaluate(ForkJoinPool pool, boolean ownsPool, boolean parallel, Supplier<R> terminal) {
+        try {
+            if (Objects.isNull(pool) || ForkJoinTask.getPool() == pool || !parallel) {
+                return terminal.get();
+            }
+            return CompletableFuture.supplyAsync(terminal, pool).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new KitException(cause);
+        } finally {
+            if (ownsPool && ForkJoinTask.getPool() != pool) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 返回内部的流，融合执行的流水线会在此时构建为 {@link Stream}
+     *
+     * @return {@link Stream}
+     */
+    private Stream<T> stream() {
+        if (Objects.nonNull(fused)) {
+            this.stream = fused.stream();
+            this.fused = null;
+        }
+        return stream;
+    }
+
+    /**
+     * 元素的编解码，用于 {@link #sortedExternal(Comparator, Codec, long)} 将元素写入临时文件
+     * decode 需要恰好读取 encode 写入的字节
+     */
+    public interface Codec<T> {
+
+        /**
+         * 编码
+         *
+         * @param t   元素
+         * @param out 输出
+         * @throws IOException IOException
+         */
+        void encode(T t, DataOutput out) throws IOException;
+
+        /**
+         * 解码
+         *
+         * @param in 输入
+         * @return 元素
+         * @throws IOException IOException
+         */
+        T decode(DataInput in) throws IOException;
+    }
+
+    /**
+     * 窗口聚合方式
+     */
+    public enum Aggregate {
+
+        /**
+         * 求和
+         */
+        SUM,
+
+        /**
+         * 最小值
+         */
+        MIN,
+
+        /**
+         * 最大值
+         */
+        MAX
+    }
+
+    /**
+     * 通过拆分器创建新的流，并保留当前流的关闭操作
+     *
+     * @param spliterator 拆分器
+     * @param parallel    是否并行
+     * @return {@link St}
+     */
+    private <R> St<R> wrap(Spliterator<R> spliterator, boolean parallel) {
+        return next(StreamSupport.stream(spliterator, parallel).onClose(stream()::close));
+    }
+
     public interface Builder<T> extends Consumer<T> {
 
         /**
@@ -0,0 +1,388 @@
+package io.github.yeluod.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 滑动窗口拆分器
+ * 元素保存在固定长度的环形缓冲区中, 每前进 step 个元素输出一个长度为 size 的窗口, 不足 size 个元素的窗口不会输出
+ * step 等于 size 时为滚动窗口, step 大于 size 时窗口之间的元素会被跳过
+ * 窗口依赖元素的顺序, 因此不会被拆分
+ *
+ * @author W.d
+ * @since 2026/10/16 18:30
+ **/
+final class WindowSpliterator<T> implements Spliterator<List<T>> {
+
+    private final Spliterator<T> source;
+
+    private final int size;
+
+    private final int step;
+
+    /**
+     * 是否输出环形缓冲区的只读视图, 否则输出窗口的副本
+     */
+    private final boolean view;
+
+    private final Object[] ring;
+
+    /**
+     * 最早的元素在环形缓冲区中的位置
+     */
+    private int head;
+
+    private int count;
+
+    private final List<T> window = new RingView();
+
+    private final Consumer<T> push = this::push;
+
+    WindowSpliterator(Spliterator<T> source, int size, int step, boolean view) {
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.step = step;
+        this.view = view;
+        this.ring = new Object[size];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        Objects.requireNonNull(action);
+        for (int i = count < size ? size - count : step; i > 0; i--) {
+            if (!source.tryAdvance(push)) {
+                return false;
+            }
+        }
+        action.accept(view ? window : Collections.unmodifiableList(new ArrayList<>(window)));
+        return true;
+    }
+
+    private void push(T t) {
+        if (count < size) {
+            ring[(head + count++) % size] = t;
+        } else {
+            ring[head] = t;
+            head = (head + 1) % size;
+        }
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimateSize(source, size, step, count);
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics(source);
+    }
+
+    private static long estimateSize(Spliterator<?> source, int size, int step, int count) {
+        long remaining = source.estimateSize();
+        if (remaining == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        long first = count < size ? size - count : step;
+        return remaining < first ? 0L : 1L + (remaining - first) / step;
+    }
+
+    private static int characteristics(Spliterator<?> source) {
+        return Spliterator.ORDERED | Spliterator.NONNULL | (source.characteristics() & Spliterator.SIZED);
+    }
+
+    /**
+     * 按窗口中的顺序访问环形缓冲区的只读视图
+     */
+    private final class RingView extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, count);
+            return (T) ring[(head + index) % size];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * 单调队列, 保存窗口内可能成为最小值(或最大值)的元素位置, 每个元素最多入队出队各一次
+     */
+    private static final class Monotonic {
+
+        private final long[] positions;
+
+        private int first;
+
+        private int length;
+
+        Monotonic(int capacity) {
+            this.positions = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return length == 0;
+        }
+
+        long first() {
+            return positions[first];
+        }
+
+        long last() {
+            return positions[(first + length - 1) % positions.length];
+        }
+
+        void removeFirst() {
+            first = (first + 1) % positions.length;
+            length--;
+        }
+
+        void removeLast() {
+            length--;
+        }
+
+        void addLast(long position) {
+            positions[(first + length++) % positions.length] = position;
+        }
+    }
+
+    /**
+     * 窗口上的 long 聚合拆分器, 每个元素以 O(1) 的均摊代价更新 sum/min/max, 不装箱
+     */
+    static final class OfLong<T> implements Spliterator.OfLong {
+
+        private final Spliterator<T> source;
+
+        private final ToLongFunction<? super T> mapper;
+
+        private final St.Aggregate aggregate;
+
+        private final int size;
+
+        private final int step;
+
+        private final long[] ring;
+
+        private final Monotonic monotonic;
+
+        /**
+         * 已经进入窗口的元素个数
+         */
+        private long position;
+
+        private int count;
+
+        private long sum;
+
+        private final Consumer<T> push = this::push;
+
+        OfLong(Spliterator<T> source, ToLongFunction<? super T> mapper, St.Aggregate aggregate, int size, int step) {
+            this.source = Objects.requireNonNull(source);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.aggregate = Objects.requireNonNull(aggregate);
+            this.size = size;
+            this.step = step;
+            this.ring = new long[size];
+            this.monotonic = aggregate == St.Aggregate.SUM ? null : new Monotonic(size);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            for (int i = count < size ? size - count : step; i > 0; i--) {
+                if (!source.tryAdvance(push)) {
+                    return false;
+                }
+            }
+            action.accept(switch (aggregate) {
+                case SUM -> sum;
+                case MIN, MAX -> ring[(int) (monotonic.first() % size)];
+            });
+            return true;
+        }
+
+        private void push(T t) {
+            long value = mapper.applyAsLong(t);
+            int slot = (int) (position % size);
+            if (count < size) {
+                count++;
+            } else {
+                sum -= ring[slot];
+            }
+            ring[slot] = value;
+            sum += value;
+            if (Objects.nonNull(monotonic)) {
+                if (!monotonic.isEmpty() && monotonic.first() <= position - size) {
+                    monotonic.removeFirst();
+                }
+                while (!monotonic.isEmpty() && dominated(ring[(int) (monotonic.last() % size)], value)) {
+                    monotonic.removeLast();
+                }
+                monotonic.addLast(position);
+            }
+            position++;
+        }
+
+        private boolean dominated(long previous, long value) {
+            return aggregate == St.Aggregate.MIN ? previous >= value : previous <= value;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return WindowSpliterator.estimateSize(source, size, step, count);
+        }
+
+        @Override
+        public int characteristics() {
+            return WindowSpliterator.characteristics(source);
+        }
+    }
+
+    /**
+     * 窗口上的 double 聚合拆分器, 每个元素以 O(1) 的均摊代价更新 sum/min/max, 不装箱
+     */
+    static final class OfDouble<T> implements Spliterator.OfDouble {
+
+        private final Spliterator<T> source;
+
+        private final ToDoubleFunction<? super T> mapper;
+
+        private final St.Aggregate aggregate;
+
+        private final int size;
+
+        private final int step;
+
+        private final double[] ring;
+
+        private final Monotonic monotonic;
+
+        private long position;
+
+        private int count;
+
+        /**
+         * 窗口和, 与 compensation 一起构成 Neumaier 补偿求和的结果
+         */
+        private double sum;
+
+        /**
+         * 补偿项, 累计 sum 在加减过程中丢失的低位
+         */
+        private double compensation;
+
+        private final Consumer<T> push = this::push;
+
+        OfDouble(Spliterator<T> source, ToDoubleFunction<? super T> mapper, St.Aggregate aggregate, int size, int step) {
+            this.source = Objects.requireNonNull(source);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.aggregate = Objects.requireNonNull(aggregate);
+            this.size = size;
+            this.step = step;
+            this.ring = new double[size];
+            this.monotonic = aggregate == St.Aggregate.SUM ? null : new Monotonic(size);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            for (int i = count < size ? size - count : step; i > 0; i--) {
+                if (!source.tryAdvance(push)) {
+                    return false;
+                }
+            }
+            action.accept(switch (aggregate) {
+                case SUM -> sum + compensation;
+                case MIN, MAX -> ring[(int) (monotonic.first() % size)];
+            });
+            return true;
+        }
+
+        private void push(T t) {
+            double value = mapper.applyAsDouble(t);
+            int slot = (int) (position % size);
+            if (count < size) {
+                count++;
+            } else if (Objects.isNull(monotonic)) {
+                add(-ring[slot]);
+            }
+            ring[slot] = value;
+            if (Objects.isNull(monotonic)) {
+                add(value);
+                if (count == size && slot == size - 1) {
+                    resum();
+                }
+            } else {
+                if (!monotonic.isEmpty() && monotonic.first() <= position - size) {
+                    monotonic.removeFirst();
+                }
+                while (!monotonic.isEmpty() && dominated(ring[(int) (monotonic.last() % size)], value)) {
+                    monotonic.removeLast();
+                }
+                monotonic.addLast(position);
+            }
+            position++;
+        }
+
+        /**
+         * Neumaier 补偿求和, 即使移出窗口的是数量级远大于其他元素的值, 较小的元素也不会被吞掉
+         */
+        private void add(double value) {
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+
+        /**
+         * 每前进 size 个元素按环形缓冲区重新求和, 使误差只来自最近 2 * size 个元素的加减,
+         * 即 |误差| 不超过约 2 * ulp(1) * (这些元素绝对值之和), 不会随流的长度累积
+         */
+        private void resum() {
+            sum = 0D;
+            compensation = 0D;
+            for (double value : ring) {
+                add(value);
+            }
+        }
+
+        private boolean dominated(double previous, double value) {
+            return aggregate == St.Aggregate.MIN ? previous >= value : previous <= value;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return WindowSpliterator.estimateSize(source, size, step, count);
+        }
+
+        @Override
+        public int characteristics() {
+            return WindowSpliterator.characteristics(source);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.yeluod.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 合并拆分器
+ * 将两个拆分器的元素按顺序一一合并, 两侧都是 SUBSIZED 并且元素个数相同时同步拆分, 以便并行执行
+ *
+ * @author W.d
+ * @since 2026/10/16 13:40
+ **/
+final class ZipSpliterator<A, B, R> implements Spliterator<R> {
+
+    private Spliterator<A> left;
+
+    private Spliterator<B> right;
+
+    private final BiFunction<? super A, ? super B, ? extends R> zipper;
+
+    /**
+     * 右侧元素不足时是否用 null 补齐, 补齐时元素个数以左侧为准
+     */
+    private final boolean padding;
+
+    /**
+     * 两侧拆分的位置不一致时, 不再拆分
+     */
+    private boolean splittable = true;
+
+    private A leftValue;
+
+    private B rightValue;
+
+    private final Consumer<A> leftHolder = a -> leftValue = a;
+
+    private final Consumer<B> rightHolder = b -> rightValue = b;
+
+    ZipSpliterator(Spliterator<A> left, Spliterator<B> right,
+                   BiFunction<? super A, ? super B, ? extends R> zipper, boolean padding) {
+        this.left = Objects.requireNonNull(left);
+        this.right = Objects.requireNonNull(right);
+        this.zipper = Objects.requireNonNull(zipper);
+        this.padding = padding;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        Objects.requireNonNull(action);
+        if (!left.tryAdvance(leftHolder)) {
+            return false;
+        }
+        if (!right.tryAdvance(rightHolder)) {
+            if (!padding) {
+                leftValue = null;
+                return false;
+            }
+            rightValue = null;
+        }
+        R r = zipper.apply(leftValue, rightValue);
+        leftValue = null;
+        rightValue = null;
+        action.accept(r);
+        return true;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (!splittable || !left.hasCharacteristics(Spliterator.SUBSIZED)
+            || !right.hasCharacteristics(Spliterator.SUBSIZED)
+            || left.estimateSize() != right.estimateSize()) {
+            return null;
+        }
+        Spliterator<A> leftPrefix = left.trySplit();
+        if (Objects.isNull(leftPrefix)) {
+            return null;
+        }
+        Spliterator<B> rightPrefix = right.trySplit();
+        if (Objects.nonNull(rightPrefix) && leftPrefix.estimateSize() == rightPrefix.estimateSize()) {
+            return new ZipSpliterator<>(leftPrefix, rightPrefix, zipper, padding);
+        }
+        // 两侧拆分位置不一致, 重新拼接后按顺序遍历
+        splittable = false;
+        left = concat(leftPrefix, left);
+        if (Objects.nonNull(rightPrefix)) {
+            right = concat(rightPrefix, right);
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return padding ? left.estimateSize() : Math.min(left.estimateSize(), right.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        int both = left.characteristics() & right.characteristics();
+        int sized = padding ? left.characteristics() : both;
+        return (both & Spliterator.ORDERED) | (sized & (Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    private static <T> Spliterator<T> concat(Spliterator<T> prefix, Spliterator<T> suffix) {
+        return Stream.concat(StreamSupport.stream(prefix, false), StreamSupport.stream(suffix, false)).spliterator();
+    }
+}
@@ -2,6 +2,8 @@ package io.github.yeluod.util.exception;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * KitException
@@ -14,6 +16,16 @@ public class KitException extends RuntimeException implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * 全局的轻量模式, 可以通过系统属性 lambdakit.exception.stackless 开启
+     */
+    private static volatile boolean stackless = Boolean.getBoolean("lambdakit.exception.stackless");
+
+    /**
+     * 当前线程进入 {@link #stackless(Supplier)} 的层数
+     */
+    private static final ThreadLocal<int[]> STACKLESS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
     public KitException() {
         super();
     }
@@ -34,4 +46,54 @@ public class KitException extends RuntimeException implements Serializable {
                            boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
     }
+
+    /**
+     * 设置全局的轻量模式
+     * 开启后 {@link #wrap(Throwable)} 包装的异常不再填充堆栈, 异常的原因仍然保留
+     *
+     * @param enabled 是否开启
+     */
+    public static void setStackless(boolean enabled) {
+        stackless = enabled;
+    }
+
+    /**
+     * 全局或当前线程是否开启了轻量模式
+     *
+     * @return {@link Boolean}
+     */
+    public static boolean isStackless() {
+        return stackless || STACKLESS_DEPTH.get()[0] > 0;
+    }
+
+    /**
+     * 在当前线程以轻量模式执行给定的操作, 操作中由 {@link #wrap(Throwable)} 包装的异常不填充堆栈
+     *
+     * @param action 操作
+     * @param <T>    返回值类型
+     * @return 操作的返回值
+     */
+    public static <T> T stackless(Supplier<T> action) {
+        Objects.requireNonNull(action);
+        int[] depth = STACKLESS_DEPTH.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * 包装异常, 轻量模式下不填充堆栈
+     *
+     * @param cause 原因
+     * @return {@link KitException}
+     */
+    public static KitException wrap(Throwable cause) {
+        if (isStackless()) {
+            return new KitException(Objects.isNull(cause) ? null : cause.toString(), cause, true, false);
+        }
+        return new KitException(cause);
+    }
 }
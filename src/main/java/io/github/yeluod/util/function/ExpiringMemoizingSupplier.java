@@ -0,0 +1,65 @@
+package io.github.yeluod.util.function;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * 缓存结果并在过期后重新执行的 {@link SerSupplier}
+ * 未过期时只读取 volatile 的过期时间, 不加锁; 过期后只有一个线程重新执行, 执行失败时保留原来的过期状态
+ *
+ * @author W.d
+ * @since 2026/10/17 00:00
+ **/
+final class ExpiringMemoizingSupplier<T> implements SerSupplier<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final SerSupplier<T> delegate;
+
+    private final long durationNanos;
+
+    private transient volatile T value;
+
+    /**
+     * 过期时间({@link System#nanoTime()}), 0 表示尚未执行
+     */
+    private transient volatile long expirationNanos;
+
+    ExpiringMemoizingSupplier(SerSupplier<T> delegate, long durationNanos) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.durationNanos = durationNanos;
+    }
+
+    @Override
+    public T getting() throws Exception {
+        long nanos = expirationNanos;
+        long now = System.nanoTime();
+        if (nanos == 0 || now - nanos >= 0) {
+            synchronized (this) {
+                if (nanos == expirationNanos) {
+                    T t = delegate.getting();
+                    value = t;
+                    nanos = now + durationNanos;
+                    // 0 表示尚未执行
+                    expirationNanos = nanos == 0 ? 1 : nanos;
+                    return t;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 反序列化后重新缓存
+     */
+    @Serial
+    private Object readResolve() {
+        return new ExpiringMemoizingSupplier<>(delegate, durationNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "SerSupplier.memoizeWithExpiration(" + delegate + ", " + durationNanos + "ns)";
+    }
+}
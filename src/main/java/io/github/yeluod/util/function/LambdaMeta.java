@@ -0,0 +1,291 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * Ser* 函数式接口的 {@link SerializedLambda} 元数据
+ * 通过 writeReplace 解析, 每个 lambda 类只解析一次, 结果缓存在 {@link ClassValue} 中, 类卸载时一并回收
+ * 只缓存同一个 lambda 类的所有实例都相同的信息; 捕获的变量属于实例, 需要时通过 {@link #serializedLambda(Serializable)} 获取
+ * 方法引用为无参的实例方法(如 User::getName)时, 可以获取属性名以及直接调用该方法的 {@link MethodHandle}
+ *
+ * @author W.d
+ * @since 2026/10/16 23:20
+ **/
+public final class LambdaMeta {
+
+    /**
+     * 每个 lambda 类一个槽位, 第一次解析时写入
+     * {@link LambdaMeta} 的字段均为 final, 并发时最多重复解析, 不会读到未初始化的对象
+     */
+    private static final ClassValue<LambdaMeta[]> CACHE = new ClassValue<>() {
+        @Override
+        protected LambdaMeta[] computeValue(Class<?> type) {
+            return new LambdaMeta[1];
+        }
+    };
+
+    private static final MethodType GENERIC_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> declaringClass;
+
+    private final String methodName;
+
+    private final String methodSignature;
+
+    private final int capturedArgCount;
+
+    private final String propertyName;
+
+    /**
+     * 原始类型的方法句柄, 不是 getter 时为 null
+     */
+    private final MethodHandle getter;
+
+    /**
+     * (Object)Object 类型的方法句柄, 用于 {@link #get(Object)}
+     */
+    private final MethodHandle genericGetter;
+
+    private final int hash;
+
+    private LambdaMeta(SerializedLambda serializedLambda, Class<?> declaringClass, MethodHandle getter) {
+        this.declaringClass = declaringClass;
+        this.methodName = serializedLambda.getImplMethodName();
+        this.methodSignature = serializedLambda.getImplMethodSignature();
+        this.capturedArgCount = serializedLambda.getCapturedArgCount();
+        this.getter = getter;
+        this.genericGetter = Objects.isNull(getter) ? null : getter.asType(GENERIC_GETTER);
+        this.propertyName = Objects.isNull(getter) ? null : property(methodName);
+        this.hash = Objects.hash(declaringClass, methodName, methodSignature);
+    }
+
+    /**
+     * 获取 lambda 的元数据, 同一个 lambda 类只会解析一次
+     *
+     * @param lambda Ser* 函数式接口的实例
+     * @return {@link LambdaMeta}
+     * @throws KitException 不是可序列化的 lambda 时抛出
+     */
+    public static LambdaMeta of(Serializable lambda) {
+        LambdaMeta[] holder = CACHE.get(Objects.requireNonNull(lambda).getClass());
+        LambdaMeta meta = holder[0];
+        if (Objects.isNull(meta)) {
+            meta = resolve(lambda);
+            holder[0] = meta;
+        }
+        return meta;
+    }
+
+    /**
+     * 解析 lambda 的元数据, 不使用缓存
+     *
+     * @param lambda Ser* 函数式接口的实例
+     * @return {@link LambdaMeta}
+     * @throws KitException 不是可序列化的 lambda 时抛出
+     * @see #of(Serializable)
+     */
+    public static LambdaMeta resolve(Serializable lambda) {
+        SerializedLambda serializedLambda = serializedLambda(lambda);
+        ClassLoader loader = lambda.getClass().getClassLoader();
+        try {
+            Class<?> declaringClass = Class.forName(serializedLambda.getImplClass().replace('/', '.'), false, loader);
+            return new LambdaMeta(serializedLambda, declaringClass, getter(serializedLambda, declaringClass, loader));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw e instanceof KitException k ? k : new KitException(e);
+        }
+    }
+
+    /**
+     * 获取 lambda 实例的 {@link SerializedLambda}, 包含该实例捕获的变量, 每次调用都会通过 writeReplace 解析, 不使用缓存
+     *
+     * @param lambda Ser* 函数式接口的实例
+     * @return {@link SerializedLambda}
+     * @throws KitException 不是可序列化的 lambda 时抛出
+     */
+    public static SerializedLambda serializedLambda(Serializable lambda) {
+        Class<?> lambdaClass = Objects.requireNonNull(lambda).getClass();
+        try {
+            Method writeReplace = lambdaClass.getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            if (!(writeReplace.invoke(lambda) instanceof SerializedLambda serializedLambda)) {
+                throw new KitException("Not a serializable lambda: " + lambdaClass.getName());
+            }
+            return serializedLambda;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw e instanceof KitException k ? k : new KitException(e);
+        }
+    }
+
+    /**
+     * 方法引用为无参且有返回值的实例方法时, 返回该方法的句柄, 否则返回 null
+     */
+    private static MethodHandle getter(SerializedLambda lambda, Class<?> declaringClass, ClassLoader loader)
+            throws ReflectiveOperationException {
+        int kind = lambda.getImplMethodKind();
+        if (kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface) {
+            return null;
+        }
+        MethodType type = MethodType.fromMethodDescriptorString(lambda.getImplMethodSignature(), loader);
+        if (type.parameterCount() != 0 || type.returnType() == void.class) {
+            return null;
+        }
+        Method method = method(declaringClass, lambda.getImplMethodName());
+        if (!method.trySetAccessible()) {
+            return null;
+        }
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * 在类及其父类中查找无参方法, 找不到时查找公共方法(包括接口的默认方法)
+     */
+    private static Method method(Class<?> type, String name) throws NoSuchMethodException {
+        for (Class<?> c = type; Objects.nonNull(c); c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name);
+            } catch (NoSuchMethodException ignored) {
+                // 继续查找父类
+            }
+        }
+        return type.getMethod(name);
+    }
+
+    /**
+     * 根据方法名获取属性名, getName -> name, isActive -> active, URL -> URL, name -> name
+     */
+    private static String property(String methodName) {
+        String name = methodName;
+        if (name.length() > 3 && name.startsWith("get")) {
+            name = name.substring(3);
+        } else if (name.length() > 2 && name.startsWith("is")) {
+            name = name.substring(2);
+        } else {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 获取实现方法的签名(方法描述符)
+     *
+     * @return {@link String}
+     */
+    public String getMethodSignature() {
+        return methodSignature;
+    }
+
+    /**
+     * 获取捕获的变量个数, 同一个 lambda 类的所有实例相同
+     *
+     * @return {@link Integer}
+     */
+    public int getCapturedArgCount() {
+        return capturedArgCount;
+    }
+
+    /**
+     * 获取实现方法所在的类, 方法引用 User::getName 时为 User
+     *
+     * @return {@link Class}
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * 获取实现方法名, 普通 lambda 为编译器生成的 lambda$xxx$0
+     *
+     * @return {@link String}
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * 获取属性名, 不是 getter 时返回 null
+     *
+     * @return {@link String}
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * 是否为 getter 的方法引用
+     *
+     * @return {@link Boolean}
+     */
+    public boolean isGetter() {
+        return Objects.nonNull(getter);
+    }
+
+    /**
+     * 获取 getter 的方法句柄, 不是 getter 时返回 null
+     *
+     * @return {@link MethodHandle}
+     */
+    public MethodHandle getGetter() {
+        return getter;
+    }
+
+    /**
+     * 通过 getter 的方法句柄获取属性值
+     *
+     * @param target 目标对象
+     * @return 属性值
+     * @throws KitException 不是 getter 时抛出
+     */
+    public Object get(Object target) {
+        if (Objects.isNull(genericGetter)) {
+            throw new KitException("Not a getter reference: " + declaringClass.getName() + "." + methodName);
+        }
+        try {
+            return genericGetter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * 实现方法相同(类、方法名、方法签名)的 lambda 相等, 不同位置的 User::getName 相等
+     *
+     * @param obj {@link Object}
+     * @return {@link Boolean}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final LambdaMeta other)) {
+            return false;
+        }
+        return declaringClass == other.declaringClass
+               && methodName.equals(other.methodName)
+               && methodSignature.equals(other.methodSignature);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return declaringClass.getName() + "::" + methodName;
+    }
+}
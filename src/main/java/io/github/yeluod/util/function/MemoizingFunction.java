@@ -0,0 +1,199 @@
+package io.github.yeluod.util.function;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 有界缓存结果的 {@link SerFunction}
+ * 结果保存在 {@link ConcurrentHashMap} 中, 命中时只设置一个访问标记, 不加锁
+ * 超出容量时按 CLOCK(second chance)淘汰: 按加入顺序检查, 访问过的清除标记后放回队尾, 未访问过的淘汰
+ * 淘汰由加入元素的线程执行, 同一时间只有一个线程淘汰, 并发加入时容量可能短暂超出
+ * 未命中时在锁外执行, 同一个参数并发未命中时可能执行多次, 只保留先写入的结果; 执行失败时不缓存
+ *
+ * @author W.d
+ * @since 2026/10/17 00:00
+ **/
+public final class MemoizingFunction<T, R> implements SerFunction<T, R> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 代表 null 的参数或结果, {@link ConcurrentHashMap} 不支持 null
+     */
+    private static final Object NULL = new Object();
+
+    private final SerFunction<T, R> delegate;
+
+    private final int maxSize;
+
+    private final transient ConcurrentHashMap<Object, Node> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 按加入顺序排列的缓存项, CLOCK 淘汰的检查顺序
+     */
+    private final transient Queue<Node> clock = new ConcurrentLinkedQueue<>();
+
+    private final transient ReentrantLock evictLock = new ReentrantLock();
+
+    private final transient LongAdder hits = new LongAdder();
+
+    private final transient LongAdder misses = new LongAdder();
+
+    private final transient LongAdder evictions = new LongAdder();
+
+    MemoizingFunction(SerFunction<T, R> delegate, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R applying(T t) throws Exception {
+        Object key = Objects.isNull(t) ? NULL : t;
+        Node node = cache.get(key);
+        if (Objects.nonNull(node)) {
+            if (!node.visited) {
+                node.visited = true;
+            }
+            hits.increment();
+            return node.value == NULL ? null : (R) node.value;
+        }
+        misses.increment();
+        R r = delegate.applying(t);
+        Node created = new Node(key, Objects.isNull(r) ? NULL : r);
+        Node existing = cache.putIfAbsent(key, created);
+        if (Objects.nonNull(existing)) {
+            return existing.value == NULL ? null : (R) existing.value;
+        }
+        clock.offer(created);
+        if (cache.size() > maxSize) {
+            evict();
+        }
+        return r;
+    }
+
+    private void evict() {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            while (cache.size() > maxSize) {
+                Node node = clock.poll();
+                if (Objects.isNull(node)) {
+                    return;
+                }
+                if (node.visited) {
+                    node.visited = false;
+                    clock.offer(node);
+                } else if (cache.remove(node.key, node)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return {@link Long}
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return {@link Long}
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 淘汰次数
+     *
+     * @return {@link Long}
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 命中率, 没有调用过时为 1.0
+     *
+     * @return {@link Double}
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 1.0 : (double) hit / total;
+    }
+
+    /**
+     * 当前缓存的个数
+     *
+     * @return {@link Integer}
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 清空缓存, 不重置统计
+     */
+    public void invalidateAll() {
+        evictLock.lock();
+        try {
+            cache.clear();
+            clock.clear();
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    /**
+     * 反序列化后重新缓存
+     */
+    @Serial
+    private Object readResolve() {
+        return new MemoizingFunction<>(delegate, maxSize);
+    }
+
+    @Override
+    public String toString() {
+        return "SerFunction.memoize(" + delegate + ", " + maxSize + ")[hits=" + hitCount()
+               + ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class Node {
+
+        private final Object key;
+
+        private final Object value;
+
+        /**
+         * 最近是否被访问过
+         */
+        private volatile boolean visited;
+
+        private Node(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
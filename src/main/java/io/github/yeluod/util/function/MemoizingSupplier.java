@@ -0,0 +1,58 @@
+package io.github.yeluod.util.function;
+
+import java.io.Serial;
+import java.util.Objects;
+
+/**
+ * 缓存结果的 {@link SerSupplier}
+ * 第一次调用时在锁内执行一次, 之后只读取 volatile 标记, 不再加锁; 执行失败时不缓存, 下次调用重新执行
+ *
+ * @author W.d
+ * @since 2026/10/17 00:00
+ **/
+final class MemoizingSupplier<T> implements SerSupplier<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final SerSupplier<T> delegate;
+
+    private transient volatile boolean initialized;
+
+    /**
+     * 由 {@link #initialized} 的 volatile 写保证可见性
+     */
+    private transient T value;
+
+    MemoizingSupplier(SerSupplier<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public T getting() throws Exception {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    T t = delegate.getting();
+                    value = t;
+                    initialized = true;
+                    return t;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 反序列化后重新缓存
+     */
+    @Serial
+    private Object readResolve() {
+        return new MemoizingSupplier<>(delegate);
+    }
+
+    @Override
+    public String toString() {
+        return "SerSupplier.memoize(" + delegate + ")";
+    }
+}
@@ -26,7 +26,7 @@ public interface SerBiConsumer<T, U> extends BiConsumer<T, U>, Serializable {
         try {
             accepting(t, u);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -27,7 +27,7 @@ public interface SerBiFunction<T, U, R> extends BiFunction<T, U, R>, Serializabl
         try {
             return applying(t, u);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
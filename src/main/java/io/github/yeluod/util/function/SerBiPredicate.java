@@ -28,7 +28,7 @@ public interface SerBiPredicate<T, U> extends BiPredicate<T, U>, Serializable {
         try {
             return testing(t, u);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -28,7 +28,7 @@ public interface SerBinaryOperator<T> extends BinaryOperator<T>, Serializable {
         try {
             return this.applying(t, u);
         } catch (final Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
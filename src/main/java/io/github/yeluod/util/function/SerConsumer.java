@@ -25,7 +25,7 @@ public interface SerConsumer<T> extends Consumer<T>, Serializable {
         try {
             accepting(t);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -0,0 +1,85 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+/**
+ * SerDoublePredicate
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@FunctionalInterface
+public interface SerDoublePredicate extends DoublePredicate, Serializable {
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input argument matches the predicate,
+     * otherwise {@code false}
+     */
+    @Override
+    default boolean test(double value) {
+        try {
+            return testing(value);
+        } catch (Exception e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input argument matches the predicate,
+     * otherwise {@code false}
+     * @throws Exception Exception
+     */
+    boolean testing(double value) throws Exception;
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * AND of this predicate and another.
+     *
+     * @param other a predicate that will be logically-ANDed with this
+     *              predicate
+     * @return a composed predicate that represents the short-circuiting logical
+     * AND of this predicate and the {@code other} predicate
+     * @throws NullPointerException if other is null
+     */
+    default SerDoublePredicate and(SerDoublePredicate other) {
+        Objects.requireNonNull(other);
+        return value -> test(value) && other.test(value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     * predicate
+     */
+    @Override
+    default SerDoublePredicate negate() {
+        return value -> !test(value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * OR of this predicate and another.
+     *
+     * @param other a predicate that will be logically-ORed with this
+     *              predicate
+     * @return a composed predicate that represents the short-circuiting logical
+     * OR of this predicate and the {@code other} predicate
+     * @throws NullPointerException if other is null
+     */
+    default SerDoublePredicate or(SerDoublePredicate other) {
+        Objects.requireNonNull(other);
+        return value -> test(value) || other.test(value);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.util.function.DoubleSupplier;
+
+/**
+ * SerDoubleSupplier
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@FunctionalInterface
+public interface SerDoubleSupplier extends DoubleSupplier, Serializable {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     */
+    @Override
+    default double getAsDouble() {
+        try {
+            return gettingAsDouble();
+        } catch (Exception e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws Exception Exception
+     **/
+    double gettingAsDouble() throws Exception;
+
+}
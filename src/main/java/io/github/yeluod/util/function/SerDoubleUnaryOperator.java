@@ -0,0 +1,65 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * SerDoubleUnaryOperator
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@FunctionalInterface
+public interface SerDoubleUnaryOperator extends DoubleUnaryOperator, Serializable {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     */
+    @Override
+    default double applyAsDouble(double operand) {
+        try {
+            return applyingAsDouble(operand);
+        } catch (Exception e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     * @throws Exception Exception
+     */
+    double applyingAsDouble(double operand) throws Exception;
+
+    /**
+     * Returns a composed operator that first applies this operator to
+     * its input, and then applies the {@code after} operator to the result.
+     *
+     * @param after the operator to apply after this operator is applied
+     * @return a composed operator that first applies this operator and then
+     * applies the {@code after} operator
+     * @throws NullPointerException if after is null
+     */
+    default SerDoubleUnaryOperator andThen(SerDoubleUnaryOperator after) {
+        Objects.requireNonNull(after);
+        return (double t) -> after.applyAsDouble(applyAsDouble(t));
+    }
+
+    /**
+     * Returns a unary operator that always returns its input argument.
+     *
+     * @return a unary operator that always returns its input argument
+     */
+    static SerDoubleUnaryOperator identity() {
+        return t -> t;
+    }
+
+}
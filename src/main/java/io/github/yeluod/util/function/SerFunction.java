@@ -26,7 +26,7 @@ public interface SerFunction<T, R> extends Function<T, R>, Serializable {
         try {
             return applying(t);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -78,6 +78,20 @@ public interface SerFunction<T, R> extends Function<T, R>, Serializable {
         return (T t) -> after.apply(apply(t));
     }
 
+    /**
+     * Returns a function that caches up to {@code maxSize} results by argument.
+     * Hits are lock-free, and entries beyond {@code maxSize} are evicted with a CLOCK (second chance) policy.
+     * Hit, miss and eviction counts are available on the returned {@link MemoizingFunction}.
+     * If the call fails, nothing is cached.
+     *
+     * @param maxSize the maximum number of cached results
+     * @return a memoizing function
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    default MemoizingFunction<T, R> memoize(int maxSize) {
+        return new MemoizingFunction<>(this, maxSize);
+    }
+
     /**
      * Returns a function that always returns its input argument.
      *
@@ -0,0 +1,85 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * SerIntPredicate
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@FunctionalInterface
+public interface SerIntPredicate extends IntPredicate, Serializable {
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input argument matches the predicate,
+     * otherwise {@code false}
+     */
+    @Override
+    default boolean test(int value) {
+        try {
+            return testing(value);
+        } catch (Exception e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input argument matches the predicate,
+     * otherwise {@code false}
+     * @throws Exception Exception
+     */
+    boolean testing(int value) throws Exception;
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * AND of this predicate and another.
+     *
+     * @param other a predicate that will be logically-ANDed with this
+     *              predicate
+     * @return a composed predicate that represents the short-circuiting logical
+     * AND of this predicate and the {@code other} predicate
+     * @throws NullPointerException if other is null
+     */
+    default SerIntPredicate and(SerIntPredicate other) {
+        Objects.requireNonNull(other);
+        return value -> test(value) && other.test(value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this
+     * predicate.
+     *
+     * @return a predicate that represents the logical negation of this
+     * predicate
+     */
+    @Override
+    default SerIntPredicate negate() {
+        return value -> !test(value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical
+     * OR of this predicate and another.
+     *
+     * @param other a predicate that will be logically-ORed with this
+     *              predicate
+     * @return a composed predicate that represents the short-circuiting logical
+     * OR of this predicate and the {@code other} predicate
+     * @throws NullPointerException if other is null
+     */
+    default SerIntPredicate or(SerIntPredicate other) {
+        Objects.requireNonNull(other);
+        return value -> test(value) || other.test(value);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.yeluod.util.function;
+
+import io.github.yeluod.util.exception.KitException;
+
+import java.io.Serializable;
+import java.util.function.IntSupplier;
+
+/**
+ * SerIntSupplier
+ *
+ * @author W.d
+ * @since 2026/10/16 23:00
+ **/
+@FunctionalInterface
+public interface SerIntSupplier extends IntSupplier, Serializable {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     */
+    @Override
+    default int getAsInt() {
+        try {
+            return gettingAsInt();
+        } catch (Exception e) {
+            throw KitException.wrap(e);
+        }
+    }
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws Exception Exception
+     **/
+    int gettingAsInt() throws Exception;
+
+}
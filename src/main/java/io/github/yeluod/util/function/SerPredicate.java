@@ -27,7 +27,7 @@ public interface SerPredicate<T> extends Predicate<T>, Serializable {
         try {
             return testing(t);
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
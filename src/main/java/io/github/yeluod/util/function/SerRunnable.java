@@ -29,7 +29,7 @@ public interface SerRunnable extends Runnable, Serializable {
         try {
             running();
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -3,6 +3,8 @@ package io.github.yeluod.util.function;
 import io.github.yeluod.util.exception.KitException;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -24,7 +26,7 @@ public interface SerSupplier<T> extends Supplier<T>, Serializable {
         try {
             return getting();
         } catch (Exception e) {
-            throw new KitException(e);
+            throw KitException.wrap(e);
         }
     }
 
@@ -36,4 +38,35 @@ public interface SerSupplier<T> extends Supplier<T>, Serializable {
      **/
     T getting() throws Exception;
 
+    /**
+     * Returns a supplier that caches the result of the first successful call.
+     * After initialization only a volatile read is performed, without locking.
+     * If the call fails, nothing is cached and the next call tries again.
+     *
+     * @return a memoizing supplier
+     */
+    default SerSupplier<T> memoize() {
+        if (this instanceof MemoizingSupplier) {
+            return this;
+        }
+        return new MemoizingSupplier<>(this);
+    }
+
+    /**
+     * Returns a supplier that caches the result and calls this supplier again once
+     * the given duration has elapsed since the last successful call.
+     * While the cached result is valid only a volatile read is performed, without locking.
+     *
+     * @param duration how long a result stays valid
+     * @return an expiring memoizing supplier
+     * @throws IllegalArgumentException if duration is not positive
+     */
+    default SerSupplier<T> memoizeWithExpiration(Duration duration) {
+        Objects.requireNonNull(duration);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive: " + duration);
+        }
+        return new ExpiringMemoizingSupplier<>(this, duration.toNanos());
+    }
+
 }